@@ -0,0 +1,93 @@
+package software.coley.bentofx.benchmark;
+
+import javafx.geometry.Orientation;
+import software.coley.bentofx.Bento;
+import software.coley.bentofx.building.DockBuilding;
+import software.coley.bentofx.layout.DockContainer;
+import software.coley.bentofx.layout.container.DockContainerBranch;
+import software.coley.bentofx.layout.container.DockContainerLeaf;
+import software.coley.bentofx.layout.container.DockContainerRootBranch;
+
+/**
+ * Utility for building synthetic layouts of a given shape.
+ *
+ * @author Matt Coley
+ */
+public final class BenchLayouts {
+	private BenchLayouts() {}
+
+	/**
+	 * Builds a balanced layout and registers its root with the given bento instance.
+	 *
+	 * @param bento
+	 * 		Bento instance to build with.
+	 * @param depth
+	 * 		Number of branch levels, including the root. A depth of {@code 1} has leaves as children of the root.
+	 * @param fanout
+	 * 		Number of children in each branch.
+	 * @param dockablesPerLeaf
+	 * 		Number of dockables in each leaf.
+	 *
+	 * @return Root of the built layout.
+	 */
+	public static DockContainerRootBranch build(Bento bento, int depth, int fanout, int dockablesPerLeaf) {
+		return build(bento, "", depth, fanout, dockablesPerLeaf);
+	}
+
+	/**
+	 * Builds a balanced layout and registers its root with the given bento instance.
+	 * All container and dockable identifiers are prefixed so that multiple layouts can coexist in one bento instance.
+	 *
+	 * @param bento
+	 * 		Bento instance to build with.
+	 * @param idPrefix
+	 * 		Prefix of all identifiers in the layout.
+	 * @param depth
+	 * 		Number of branch levels, including the root. A depth of {@code 1} has leaves as children of the root.
+	 * @param fanout
+	 * 		Number of children in each branch.
+	 * @param dockablesPerLeaf
+	 * 		Number of dockables in each leaf.
+	 *
+	 * @return Root of the built layout.
+	 */
+	public static DockContainerRootBranch build(Bento bento, String idPrefix, int depth, int fanout, int dockablesPerLeaf) {
+		DockBuilding builder = bento.dockBuilding();
+		DockContainerRootBranch root = builder.root(idPrefix + "root");
+		populate(builder, root, 1, depth, fanout, dockablesPerLeaf, idPrefix, "");
+		bento.registerRoot(root);
+		return root;
+	}
+
+	/**
+	 * @param root
+	 * 		Root of a layout.
+	 *
+	 * @return Last leaf in the layout, which is the last visited in a depth-first search.
+	 */
+	public static DockContainerLeaf lastLeaf(DockContainerBranch root) {
+		DockContainer container = root;
+		while (container instanceof DockContainerBranch branch)
+			container = branch.getChildContainers().getLast();
+		return (DockContainerLeaf) container;
+	}
+
+	private static void populate(DockBuilding builder, DockContainerBranch branch,
+	                             int level, int depth, int fanout, int dockablesPerLeaf,
+	                             String idPrefix, String prefix) {
+		for (int i = 0; i < fanout; i++) {
+			String id = prefix + '-' + i;
+			if (level >= depth) {
+				DockContainerLeaf leaf = builder.leaf(idPrefix + "leaf" + id);
+				for (int d = 0; d < dockablesPerLeaf; d++)
+					leaf.addDockable(builder.dockable(idPrefix + "dockable" + id + '-' + d));
+				branch.addContainer(leaf);
+			} else {
+				DockContainerBranch child = builder.branch(idPrefix + "branch" + id);
+				child.setOrientation(level % 2 == 0 ? Orientation.HORIZONTAL : Orientation.VERTICAL);
+				branch.addContainer(child);
+				populate(builder, child, level + 1, depth, fanout, dockablesPerLeaf, idPrefix, id);
+			}
+		}
+	}
+}
@@ -0,0 +1,81 @@
+package software.coley.bentofx.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.coley.bentofx.Bento;
+import software.coley.bentofx.dockable.Dockable;
+import software.coley.bentofx.event.DockEvent;
+import software.coley.bentofx.event.EventBus;
+import software.coley.bentofx.layout.container.DockContainerLeaf;
+import software.coley.bentofx.layout.container.DockContainerRootBranch;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for {@link EventBus#fire(DockEvent)} with varying numbers of listeners.
+ * <p/>
+ * Selection events compute the path of the selected dockable for specific listeners,
+ * so their cost also scales with the tree shape.
+ *
+ * @author Matt Coley
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventBusBenchmark {
+	@Param({"0", "1", "16", "128"})
+	public int listeners;
+	@Param({"2", "6"})
+	public int depth;
+	@Param({"2", "4"})
+	public int fanout;
+	@Param({"1", "8"})
+	public int dockables;
+	private EventBus bus;
+	private DockEvent removedEvent;
+	private DockEvent selectedEvent;
+	private int sink;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		HeadlessFx.start();
+		Bento bento = new Bento();
+		DockContainerRootBranch root = HeadlessFx.call(() -> BenchLayouts.build(bento, depth, fanout, dockables));
+		DockContainerLeaf leaf = BenchLayouts.lastLeaf(root);
+		Dockable dockable = leaf.getDockables().getLast();
+
+		bus = bento.events();
+		for (int i = 0; i < listeners; i++) {
+			bus.addEventListener(event -> sink++);
+			bus.addDockableSelectListener((path, d) -> sink += path.containers().size());
+		}
+
+		removedEvent = new DockEvent.DockableRemoved(dockable, leaf);
+		selectedEvent = new DockEvent.DockableSelected(dockable, leaf);
+	}
+
+	@Benchmark
+	public int fireGeneric() {
+		bus.fire(removedEvent);
+		return sink;
+	}
+
+	@Benchmark
+	public int fireSelected() {
+		bus.fire(selectedEvent);
+		return sink;
+	}
+}
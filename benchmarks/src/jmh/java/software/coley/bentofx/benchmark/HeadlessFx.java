@@ -0,0 +1,102 @@
+package software.coley.bentofx.benchmark;
+
+import javafx.application.Platform;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Utility for running JavaFX headless via Monocle within benchmarks.
+ * <p/>
+ * The Monocle system properties are passed by the build, but are also set here as a fallback
+ * for running benchmarks directly from an IDE.
+ *
+ * @author Matt Coley
+ */
+public final class HeadlessFx {
+	private static boolean started;
+
+	private HeadlessFx() {}
+
+	/**
+	 * Starts the JavaFX toolkit if it has not been started already.
+	 */
+	public static synchronized void start() {
+		if (started)
+			return;
+
+		setIfAbsent("glass.platform", "Monocle");
+		setIfAbsent("monocle.platform", "Headless");
+		setIfAbsent("prism.order", "sw");
+		setIfAbsent("java.awt.headless", "true");
+
+		CountDownLatch latch = new CountDownLatch(1);
+		try {
+			Platform.startup(latch::countDown);
+		} catch (IllegalStateException ex) {
+			// Already started
+			latch.countDown();
+		}
+		try {
+			latch.await();
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while starting JavaFX", ex);
+		}
+		Platform.setImplicitExit(false);
+		started = true;
+	}
+
+	/**
+	 * @param action
+	 * 		Action to run on the FX thread.
+	 * @param <T>
+	 * 		Action result type.
+	 *
+	 * @return Action result, after waiting for the FX thread to complete it.
+	 */
+	public static <T> T call(Callable<T> action) {
+		if (Platform.isFxApplicationThread()) {
+			try {
+				return action.call();
+			} catch (Exception ex) {
+				throw new IllegalStateException(ex);
+			}
+		}
+
+		CompletableFuture<T> future = new CompletableFuture<>();
+		Platform.runLater(() -> {
+			try {
+				future.complete(action.call());
+			} catch (Throwable t) {
+				future.completeExceptionally(t);
+			}
+		});
+		try {
+			return future.get();
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(ex);
+		} catch (ExecutionException ex) {
+			throw new IllegalStateException(ex.getCause());
+		}
+	}
+
+	/**
+	 * @param action
+	 * 		Action to run on the FX thread.
+	 */
+	public static void run(Runnable action) {
+		call(() -> {
+			action.run();
+			return null;
+		});
+	}
+
+	private static void setIfAbsent(String key, String value) {
+		if (System.getProperty(key) == null)
+			System.setProperty(key, value);
+	}
+}
@@ -0,0 +1,81 @@
+package software.coley.bentofx.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.coley.bentofx.Bento;
+import software.coley.bentofx.dockable.Dockable;
+import software.coley.bentofx.layout.container.DockContainerBranch;
+import software.coley.bentofx.layout.container.DockContainerLeaf;
+import software.coley.bentofx.layout.container.DockContainerRootBranch;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for structural layout mutations.
+ * <p/>
+ * Each benchmark performs a mutation and its inverse so that the layout shape is stable across invocations.
+ * The layout is not attached to a scene, so the mutations run on the benchmark thread.
+ *
+ * @author Matt Coley
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LayoutMutationBenchmark {
+	@Param({"2", "6"})
+	public int depth;
+	@Param({"2", "4"})
+	public int fanout;
+	@Param({"1", "64", "512"})
+	public int dockables;
+	private DockContainerLeaf leaf;
+	private DockContainerLeaf spareLeaf;
+	private DockContainerBranch leafParent;
+	private Dockable extra;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		HeadlessFx.start();
+		Bento bento = new Bento();
+		DockContainerRootBranch root = HeadlessFx.call(() -> BenchLayouts.build(bento, depth, fanout, dockables));
+		leaf = BenchLayouts.lastLeaf(root);
+		leafParent = leaf.getParentContainer();
+		extra = bento.dockBuilding().dockable("extra");
+		spareLeaf = HeadlessFx.call(() -> {
+			DockContainerLeaf spare = bento.dockBuilding().leaf("spare");
+			spare.addDockable(bento.dockBuilding().dockable("spare-dockable"));
+			return spare;
+		});
+	}
+
+	@Benchmark
+	public boolean addRemoveDockableLast() {
+		leaf.addDockable(extra);
+		return leaf.removeDockable(extra);
+	}
+
+	@Benchmark
+	public boolean addRemoveDockableFirst() {
+		leaf.addDockable(0, extra);
+		return leaf.removeDockable(extra);
+	}
+
+	@Benchmark
+	public boolean replaceContainer() {
+		leafParent.replaceContainer(leaf, spareLeaf);
+		return leafParent.replaceContainer(spareLeaf, leaf);
+	}
+}
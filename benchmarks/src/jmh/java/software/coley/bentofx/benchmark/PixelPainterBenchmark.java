@@ -0,0 +1,145 @@
+package software.coley.bentofx.benchmark;
+
+import javafx.scene.image.WritableImage;
+import org.jspecify.annotations.Nullable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.coley.bentofx.control.canvas.ArgbSource;
+import software.coley.bentofx.control.canvas.CachedArgbSource;
+import software.coley.bentofx.control.canvas.PixelPainter;
+import software.coley.bentofx.control.canvas.PixelPainterByteBgra;
+import software.coley.bentofx.control.canvas.PixelPainterByteBgraPre;
+import software.coley.bentofx.control.canvas.PixelPainterIntArgb;
+import software.coley.bentofx.control.canvas.PixelPainterIntArgbPre;
+import software.coley.bentofx.control.canvas.ScaleMode;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Benchmarks for {@link PixelPainter} drawing kernels.
+ *
+ * @author Matt Coley
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PixelPainterBenchmark {
+	private static final int ICON_SIZE = 32;
+	@Param({"INT_ARGB", "INT_ARGB_PRE", "BYTE_BGRA", "BYTE_BGRA_PRE"})
+	public PainterType painter;
+	@Param({"256", "1024"})
+	public int size;
+	private PixelPainter<?> pixelPainter;
+	private ArgbSource icon;
+	private WritableImage image;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		HeadlessFx.start();
+		pixelPainter = painter.supplier.get();
+		pixelPainter.initialize(size, size);
+		icon = new CachedArgbSource(new CheckerSource(ICON_SIZE, ICON_SIZE));
+		image = new WritableImage(size, size);
+	}
+
+	@Benchmark
+	public void clear() {
+		pixelPainter.clear();
+	}
+
+	@Benchmark
+	public void fillRect() {
+		pixelPainter.fillRect(0, 0, size, size, 0x44FF0000);
+	}
+
+	@Benchmark
+	public void fillBorderedRect() {
+		pixelPainter.fillBorderedRect(0, 0, size, size, 2, 0x44FF0000, 0x88FF0000);
+	}
+
+	@Benchmark
+	public void drawImage() {
+		pixelPainter.drawImage(size / 2, size / 2, icon);
+	}
+
+	@Benchmark
+	public void drawImageScaledNearest() {
+		pixelPainter.drawImageScaled(0, 0, size / 2, size / 2, icon, ScaleMode.NEAREST);
+	}
+
+	@Benchmark
+	public void drawImageScaledBilinear() {
+		pixelPainter.drawImageScaled(0, 0, size / 2, size / 2, icon, ScaleMode.BILINEAR);
+	}
+
+	@Benchmark
+	public void drawImageNineSlice() {
+		pixelPainter.drawImageNineSlice(0, 0, size, size, 8, 8, 8, 8, icon, ScaleMode.NEAREST);
+	}
+
+	@Benchmark
+	public void commit() {
+		pixelPainter.commit(image.getPixelWriter());
+	}
+
+	/**
+	 * Painter implementations to benchmark.
+	 */
+	public enum PainterType {
+		INT_ARGB(PixelPainterIntArgb::new),
+		INT_ARGB_PRE(PixelPainterIntArgbPre::new),
+		BYTE_BGRA(PixelPainterByteBgra::new),
+		BYTE_BGRA_PRE(PixelPainterByteBgraPre::new);
+
+		private final Supplier<PixelPainter<?>> supplier;
+
+		PainterType(Supplier<PixelPainter<?>> supplier) {
+			this.supplier = supplier;
+		}
+	}
+
+	/**
+	 * Procedural checkerboard image source.
+	 */
+	private record CheckerSource(int width, int height) implements ArgbSource {
+		@Override
+		public int getWidth() {
+			return width;
+		}
+
+		@Override
+		public int getHeight() {
+			return height;
+		}
+
+		@Override
+		public int getArgb(int x, int y) {
+			return ((x / 4 + y / 4) & 1) == 0 ? 0xFF202020 : 0x80E0E0E0;
+		}
+
+		@Override
+		public int @Nullable [] getArgb(int x, int y, int width, int height) {
+			if (x < 0 || y < 0 || x + width > this.width || y + height > this.height)
+				return null;
+			int[] argb = new int[width * height];
+			for (int ly = 0; ly < height; ly++)
+				for (int lx = 0; lx < width; lx++)
+					argb[ly * width + lx] = getArgb(x + lx, y + ly);
+			return argb;
+		}
+	}
+}
@@ -0,0 +1,86 @@
+package software.coley.bentofx.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.coley.bentofx.Bento;
+import software.coley.bentofx.dockable.Dockable;
+import software.coley.bentofx.layout.container.DockContainerLeaf;
+import software.coley.bentofx.layout.container.DockContainerRootBranch;
+import software.coley.bentofx.path.DockContainerPath;
+import software.coley.bentofx.path.DockablePath;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for {@link software.coley.bentofx.search.SearchHandler} lookups and path computation.
+ * <p/>
+ * Lookups target the last dockable/leaf in the layout, which is the worst case for a depth-first search.
+ *
+ * @author Matt Coley
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SearchBenchmark {
+	@Param({"2", "4", "6"})
+	public int depth;
+	@Param({"2", "4"})
+	public int fanout;
+	@Param({"1", "8"})
+	public int dockables;
+	private Bento bento;
+	private DockContainerLeaf lastLeaf;
+	private Dockable lastDockable;
+	private String lastLeafId;
+	private String lastDockableId;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		HeadlessFx.start();
+		bento = new Bento();
+		DockContainerRootBranch root = HeadlessFx.call(() -> BenchLayouts.build(bento, depth, fanout, dockables));
+		lastLeaf = BenchLayouts.lastLeaf(root);
+		lastLeafId = lastLeaf.getIdentifier();
+		lastDockable = lastLeaf.getDockables().getLast();
+		lastDockableId = lastDockable.getIdentifier();
+	}
+
+	@Benchmark
+	public DockablePath dockableById() {
+		return bento.search().dockable(lastDockableId);
+	}
+
+	@Benchmark
+	public DockContainerPath containerById() {
+		return bento.search().container(lastLeafId);
+	}
+
+	@Benchmark
+	public DockContainerPath containerPath() {
+		return lastLeaf.getPath();
+	}
+
+	@Benchmark
+	public DockablePath dockablePath() {
+		return lastDockable.getPath();
+	}
+
+	@Benchmark
+	public List<DockablePath> allDockables() {
+		return bento.search().allDockables();
+	}
+}
@@ -0,0 +1,135 @@
+package software.coley.bentofx.stress;
+
+import javafx.event.Event;
+import javafx.event.EventType;
+import javafx.geometry.Point2D;
+import javafx.geometry.Side;
+import javafx.scene.input.DragEvent;
+import javafx.scene.input.Dragboard;
+import javafx.scene.input.MouseButton;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.input.TransferMode;
+import javafx.scene.layout.Region;
+import org.jspecify.annotations.Nullable;
+import software.coley.bentofx.control.ContentWrapper;
+import software.coley.bentofx.control.Header;
+import software.coley.bentofx.dockable.Dockable;
+import software.coley.bentofx.layout.container.DockContainerLeaf;
+import software.coley.bentofx.util.DragDropTarget;
+import software.coley.bentofx.util.DragUtils;
+
+/**
+ * Simulates user input against bento controls by firing events at their real handlers.
+ * All methods must be called on the FX thread.
+ *
+ * @author Matt Coley
+ */
+public final class DndSimulator {
+	private DndSimulator() {}
+
+	/**
+	 * Simulates dragging a dockable's header and dropping it onto another header.
+	 *
+	 * @param dockable
+	 * 		Dockable to drag.
+	 * @param target
+	 * 		Header to drop onto.
+	 * @param after
+	 *        {@code true} to drop on the trailing half of the target header, inserting the dockable after it.
+	 *
+	 * @return Completed drop target type, or {@code null} if the drop was not accepted.
+	 */
+	@Nullable
+	public static DragDropTarget dropOnHeader(Dockable dockable, Header target, boolean after) {
+		double x = target.getWidth() * (after ? 0.75 : 0.25);
+		double y = target.getHeight() * (after ? 0.75 : 0.25);
+		return drag(dockable, target, x, y);
+	}
+
+	/**
+	 * Simulates dragging a dockable's header and dropping it onto the content of a leaf.
+	 *
+	 * @param dockable
+	 * 		Dockable to drag.
+	 * @param target
+	 * 		Content wrapper of the leaf to drop onto.
+	 * @param side
+	 * 		Side of the content to drop on, splitting the target leaf.
+	 *        {@code null} to drop in the center, moving the dockable into the target leaf.
+	 *
+	 * @return Completed drop target type, or {@code null} if the drop was not accepted.
+	 */
+	@Nullable
+	public static DragDropTarget dropOnContent(Dockable dockable, ContentWrapper target, @Nullable Side side) {
+		double w = target.getWidth();
+		double h = target.getHeight();
+		double x = w / 2;
+		double y = h / 2;
+		if (side != null) {
+			switch (side) {
+				case TOP -> y = h * 0.05;
+				case BOTTOM -> y = h * 0.95;
+				case LEFT -> x = w * 0.05;
+				case RIGHT -> x = w * 0.95;
+			}
+		}
+		return drag(dockable, target, x, y);
+	}
+
+	/**
+	 * @param header
+	 * 		Header to click.
+	 * @param button
+	 * 		Mouse button to click with.
+	 */
+	public static void click(Header header, MouseButton button) {
+		fireMouse(header, MouseEvent.MOUSE_PRESSED, button);
+		fireMouse(header, MouseEvent.MOUSE_RELEASED, button);
+		fireMouse(header, MouseEvent.MOUSE_CLICKED, button);
+	}
+
+	@Nullable
+	private static DragDropTarget drag(Dockable dockable, Region target, double localX, double localY) {
+		DockContainerLeaf sourceLeaf = dockable.getContainer();
+		Header sourceHeader = sourceLeaf == null ? null : sourceLeaf.getHeader(dockable);
+		Dragboard dragboard = FakeDragboard.create(DragUtils.content(dockable));
+
+		Point2D scene = target.localToScene(localX, localY);
+		Point2D screen = screenOrScene(target, localX, localY, scene);
+		Event.fireEvent(target, dragEvent(DragEvent.DRAG_OVER, dragboard, scene, screen, sourceHeader, target));
+		Event.fireEvent(target, dragEvent(DragEvent.DRAG_DROPPED, dragboard, scene, screen, sourceHeader, target));
+		Event.fireEvent(target, dragEvent(DragEvent.DRAG_EXITED_TARGET, dragboard, scene, screen, sourceHeader, target));
+
+		// The source header is notified last, as it would be when the user releases the mouse.
+		if (sourceHeader != null)
+			Event.fireEvent(sourceHeader, dragEvent(DragEvent.DRAG_DONE, dragboard, scene, screen, sourceHeader, target));
+
+		return DragUtils.extractDropTargetType(dragboard);
+	}
+
+	private static DragEvent dragEvent(EventType<DragEvent> type, Dragboard dragboard,
+	                                   Point2D scene, Point2D screen,
+	                                   @Nullable Object gestureSource, Object gestureTarget) {
+		return new DragEvent(type, dragboard, scene.getX(), scene.getY(), screen.getX(), screen.getY(),
+				TransferMode.MOVE, gestureSource, gestureTarget, null);
+	}
+
+	private static void fireMouse(Header header, EventType<MouseEvent> type, MouseButton button) {
+		double localX = header.getWidth() / 2;
+		double localY = header.getHeight() / 2;
+		Point2D scene = header.localToScene(localX, localY);
+		Point2D screen = screenOrScene(header, localX, localY, scene);
+		boolean down = type == MouseEvent.MOUSE_PRESSED;
+		Event.fireEvent(header, new MouseEvent(type, scene.getX(), scene.getY(), screen.getX(), screen.getY(),
+				button, 1, false, false, false, false,
+				down && button == MouseButton.PRIMARY,
+				down && button == MouseButton.MIDDLE,
+				down && button == MouseButton.SECONDARY,
+				false, false, true, null));
+	}
+
+	private static Point2D screenOrScene(Region target, double localX, double localY, Point2D scene) {
+		Point2D screen = target.localToScreen(localX, localY);
+		return screen == null ? scene : screen;
+	}
+}
@@ -0,0 +1,105 @@
+package software.coley.bentofx.stress;
+
+import javafx.scene.input.DataFormat;
+import javafx.scene.input.Dragboard;
+import javafx.scene.input.TransferMode;
+import javafx.util.Pair;
+import org.jspecify.annotations.Nullable;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+
+/**
+ * Factory for in-memory {@link Dragboard} instances.
+ * <p/>
+ * Headless platforms do not support starting a real drag-n-drop gesture, so a dragboard is instead created
+ * around a map-backed toolkit clipboard. This allows firing {@link javafx.scene.input.DragEvent} instances
+ * at the real {@link software.coley.bentofx.control.Header} and {@link software.coley.bentofx.control.ContentWrapper}
+ * handlers, which read from and write to the dragboard exactly as they would during a user's drag operation.
+ * <p/>
+ * Requires {@code javafx.scene.input} to be opened and {@code com.sun.javafx.tk} to be exported to the caller
+ * when JavaFX is on the module path.
+ *
+ * @author Matt Coley
+ */
+public final class FakeDragboard {
+	private static final Class<?> CLIPBOARD_TYPE;
+	private static final Constructor<Dragboard> DRAGBOARD_CONSTRUCTOR;
+
+	static {
+		try {
+			CLIPBOARD_TYPE = Class.forName("com.sun.javafx.tk.TKClipboard");
+			DRAGBOARD_CONSTRUCTOR = Dragboard.class.getDeclaredConstructor(CLIPBOARD_TYPE);
+			DRAGBOARD_CONSTRUCTOR.setAccessible(true);
+		} catch (ReflectiveOperationException ex) {
+			throw new ExceptionInInitializerError(ex);
+		}
+	}
+
+	private FakeDragboard() {}
+
+	/**
+	 * Must be called on the FX thread.
+	 *
+	 * @param content
+	 * 		Initial content of the dragboard.
+	 *
+	 * @return New dragboard supporting {@link TransferMode#MOVE} holding the given content.
+	 */
+	public static Dragboard create(Map<DataFormat, Object> content) {
+		Object peer = Proxy.newProxyInstance(FakeDragboard.class.getClassLoader(),
+				new Class<?>[]{CLIPBOARD_TYPE}, new ClipboardHandler());
+		try {
+			Dragboard dragboard = DRAGBOARD_CONSTRUCTOR.newInstance(peer);
+			dragboard.setContent(content);
+			return dragboard;
+		} catch (ReflectiveOperationException ex) {
+			throw new IllegalStateException("Failed to create dragboard", ex);
+		}
+	}
+
+	/**
+	 * Handler modeling the toolkit clipboard with a simple map.
+	 */
+	private static class ClipboardHandler implements InvocationHandler {
+		private final Map<DataFormat, Object> content = new HashMap<>();
+
+		@Override
+		public @Nullable Object invoke(Object proxy, Method method, Object @Nullable [] args) {
+			return switch (method.getName()) {
+				case "putContent" -> {
+					content.clear();
+					if (args != null && args[0] instanceof Pair<?, ?>[] pairs)
+						for (Pair<?, ?> pair : pairs)
+							content.put((DataFormat) pair.getKey(), pair.getValue());
+					yield true;
+				}
+				case "getContent" -> content.get((DataFormat) args[0]);
+				case "hasContent" -> content.containsKey((DataFormat) args[0]);
+				case "getContentTypes" -> Collections.unmodifiableSet(new HashSet<>(content.keySet()));
+				case "getTransferModes" -> EnumSet.of(TransferMode.MOVE);
+				case "hashCode" -> System.identityHashCode(proxy);
+				case "equals" -> proxy == args[0];
+				case "toString" -> "FakeDragboard" + content;
+				default -> defaultValue(method.getReturnType());
+			};
+		}
+
+		@Nullable
+		private static Object defaultValue(Class<?> type) {
+			if (type == boolean.class) return false;
+			if (type == double.class) return 0D;
+			if (type == float.class) return 0F;
+			if (type == long.class) return 0L;
+			if (type == int.class) return 0;
+			return null;
+		}
+	}
+}
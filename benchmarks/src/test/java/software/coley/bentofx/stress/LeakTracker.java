@@ -0,0 +1,63 @@
+package software.coley.bentofx.stress;
+
+import org.testfx.util.WaitForAsyncUtils;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tracks objects that are expected to become unreachable, such as removed headers, closed dockables and closed stages.
+ *
+ * @author Matt Coley
+ */
+public class LeakTracker {
+	private final List<Tracked> tracked = new ArrayList<>();
+
+	/**
+	 * @param label
+	 * 		Label to report the object with if it is leaked.
+	 * @param value
+	 * 		Object expected to become unreachable.
+	 */
+	public void track(String label, Object value) {
+		tracked.add(new Tracked(label, new WeakReference<>(value)));
+	}
+
+	/**
+	 * @return Number of tracked objects.
+	 */
+	public int size() {
+		return tracked.size();
+	}
+
+	/**
+	 * Repeatedly flushes the FX event queue and requests garbage collection until all tracked objects
+	 * are collected, or the timeout elapses. Must not be called on the FX thread.
+	 *
+	 * @param timeoutMillis
+	 * 		Maximum time to wait for tracked objects to be collected.
+	 *
+	 * @return Labels of objects which are still reachable.
+	 */
+	public List<String> awaitCollected(long timeoutMillis) {
+		long deadline = System.currentTimeMillis() + timeoutMillis;
+		while (true) {
+			// Pending 'runLater' actions can briefly hold references to removed controls.
+			WaitForAsyncUtils.waitForFxEvents();
+			System.gc();
+			tracked.removeIf(t -> t.reference().get() == null);
+			if (tracked.isEmpty() || System.currentTimeMillis() > deadline)
+				break;
+			try {
+				Thread.sleep(50);
+			} catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				break;
+			}
+		}
+		return tracked.stream().map(Tracked::label).toList();
+	}
+
+	private record Tracked(String label, WeakReference<Object> reference) {}
+}
@@ -0,0 +1,138 @@
+package software.coley.bentofx.stress;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Records time and allocation of repeated executions of a single kind of operation,
+ * and checks them against per-operation budgets.
+ * <p/>
+ * Time is checked against the 95th percentile so that the odd GC pause does not fail the suite.
+ * Allocation is checked against the mean, as it is far more stable between runs.
+ *
+ * @author Matt Coley
+ */
+public class OperationBudget {
+	private static final com.sun.management.ThreadMXBean THREADS =
+			(com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+	private final String name;
+	private final long timeBudgetNanos;
+	private final long allocationBudgetBytes;
+	private long[] times = new long[64];
+	private long totalAllocated;
+	private long maxAllocated;
+	private int count;
+
+	/**
+	 * @param name
+	 * 		Operation name.
+	 * @param timeBudgetMillis
+	 * 		Maximum allowed 95th percentile time of a single operation, in milliseconds.
+	 * @param allocationBudgetKb
+	 * 		Maximum allowed mean allocation of a single operation, in kilobytes.
+	 * @param scale
+	 * 		Multiplier applied to both budgets.
+	 */
+	public OperationBudget(String name, double timeBudgetMillis, long allocationBudgetKb, double scale) {
+		this.name = name;
+		this.timeBudgetNanos = (long) (timeBudgetMillis * scale * 1_000_000);
+		this.allocationBudgetBytes = (long) (allocationBudgetKb * scale * 1024);
+	}
+
+	/**
+	 * Must be called on the thread performing the operation, as allocation is tracked per thread.
+	 *
+	 * @param operation
+	 * 		Operation to run and record.
+	 * @param <T>
+	 * 		Operation result type.
+	 *
+	 * @return Operation result.
+	 */
+	public <T> T measure(Supplier<T> operation) {
+		long allocStart = THREADS.getCurrentThreadAllocatedBytes();
+		long start = System.nanoTime();
+		T result = operation.get();
+		long time = System.nanoTime() - start;
+		long allocated = THREADS.getCurrentThreadAllocatedBytes() - allocStart;
+
+		if (count == times.length)
+			times = Arrays.copyOf(times, count * 2);
+		times[count++] = time;
+		totalAllocated += allocated;
+		maxAllocated = Math.max(maxAllocated, allocated);
+		return result;
+	}
+
+	/**
+	 * @param operation
+	 * 		Operation to run and record.
+	 */
+	public void measure(Runnable operation) {
+		measure(() -> {
+			operation.run();
+			return null;
+		});
+	}
+
+	/**
+	 * @return Operation name.
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * @return Number of recorded operations.
+	 */
+	public int getCount() {
+		return count;
+	}
+
+	/**
+	 * @param percentile
+	 * 		Percentile in the range of {@code [0, 1]}.
+	 *
+	 * @return Recorded operation time at the given percentile, in nanoseconds.
+	 */
+	public long getTimeNanos(double percentile) {
+		if (count == 0)
+			return 0;
+		long[] sorted = Arrays.copyOf(times, count);
+		Arrays.sort(sorted);
+		int index = (int) Math.ceil(percentile * count) - 1;
+		return sorted[Math.clamp(index, 0, count - 1)];
+	}
+
+	/**
+	 * @return Mean allocation of recorded operations, in bytes.
+	 */
+	public long getMeanAllocatedBytes() {
+		return count == 0 ? 0 : totalAllocated / count;
+	}
+
+	/**
+	 * @param failures
+	 * 		List to add budget violation messages to.
+	 */
+	public void verify(List<String> failures) {
+		long p95 = getTimeNanos(0.95);
+		if (p95 > timeBudgetNanos)
+			failures.add(String.format("%s: p95 time %.2fms exceeds budget of %.2fms",
+					name, p95 / 1e6, timeBudgetNanos / 1e6));
+		long meanAllocated = getMeanAllocatedBytes();
+		if (meanAllocated > allocationBudgetBytes)
+			failures.add(String.format("%s: mean allocation %dKB exceeds budget of %dKB",
+					name, meanAllocated / 1024, allocationBudgetBytes / 1024));
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%-14s n=%-5d p50=%8.2fms p95=%8.2fms max=%8.2fms alloc(mean)=%7dKB alloc(max)=%7dKB",
+				name, count,
+				getTimeNanos(0.5) / 1e6, getTimeNanos(0.95) / 1e6, getTimeNanos(1) / 1e6,
+				getMeanAllocatedBytes() / 1024, maxAllocated / 1024);
+	}
+}
@@ -0,0 +1,418 @@
+package software.coley.bentofx.stress;
+
+import javafx.application.Platform;
+import javafx.event.Event;
+import javafx.geometry.Side;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.scene.control.Label;
+import javafx.scene.input.MouseButton;
+import javafx.stage.WindowEvent;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.testfx.api.FxToolkit;
+import software.coley.bentofx.Bento;
+import software.coley.bentofx.benchmark.BenchLayouts;
+import software.coley.bentofx.benchmark.HeadlessFx;
+import software.coley.bentofx.control.ContentWrapper;
+import software.coley.bentofx.control.DragDropStage;
+import software.coley.bentofx.control.Header;
+import software.coley.bentofx.dockable.Dockable;
+import software.coley.bentofx.layout.container.DockContainerBranch;
+import software.coley.bentofx.layout.container.DockContainerLeaf;
+import software.coley.bentofx.layout.container.DockContainerRootBranch;
+import software.coley.bentofx.util.BentoUtils;
+import software.coley.bentofx.util.DragDropTarget;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Headless stress suite for large layouts.
+ * <p/>
+ * Builds layouts with thousands of dockables spread over deep branch trees and many {@link DragDropStage} windows,
+ * then drives moves, splits, collapses and closes through the real {@link Header} and {@link ContentWrapper}
+ * handlers. Each operation is checked against time and allocation budgets, and every removed {@link Header},
+ * {@link Dockable} and stage must become unreachable.
+ * <p/>
+ * The suite runs twice, once with a single stage and once with the full stage count. The per-operation cost of the
+ * larger run must stay within a constant factor of the smaller run, which catches operations accidentally
+ * scaling with the size of the whole layout.
+ * <p/>
+ * Configured with system properties:
+ * <ul>
+ *     <li>{@code stress.stages} - Number of stages in the full run.</li>
+ *     <li>{@code stress.depth} - Branch depth of each stage's layout.</li>
+ *     <li>{@code stress.fanout} - Number of children per branch.</li>
+ *     <li>{@code stress.dockablesPerLeaf} - Number of dockables per leaf.</li>
+ *     <li>{@code stress.operations} - Number of operations per scenario.</li>
+ *     <li>{@code stress.budgetScale} - Multiplier for all time and allocation budgets.</li>
+ *     <li>{@code stress.scalingBound} - Maximum allowed growth of per-operation cost between the small and full run.</li>
+ *     <li>{@code stress.seed} - Random seed for picking operation sources and targets.</li>
+ * </ul>
+ * These are forwarded by the build from {@code -Pstress.*} project properties.
+ *
+ * @author Matt Coley
+ */
+@Execution(ExecutionMode.SAME_THREAD)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class StressSuiteTest {
+	private static final int STAGES = Integer.getInteger("stress.stages", 8);
+	private static final int DEPTH = Integer.getInteger("stress.depth", 4);
+	private static final int FANOUT = Integer.getInteger("stress.fanout", 3);
+	private static final int DOCKABLES_PER_LEAF = Integer.getInteger("stress.dockablesPerLeaf", 6);
+	private static final int OPERATIONS = Integer.getInteger("stress.operations", 200);
+	private static final double BUDGET_SCALE = doubleProperty("stress.budgetScale", 1);
+	private static final double SCALING_BOUND = doubleProperty("stress.scalingBound", 2);
+	private static final long SEED = Long.getLong("stress.seed", 42);
+	private static final long LEAK_TIMEOUT_MS = 10_000;
+	private static final double STAGE_WIDTH = 1600;
+	private static final double STAGE_HEIGHT = 1000;
+	private static @Nullable Pass small;
+	private static @Nullable Pass full;
+
+	@BeforeAll
+	static void setup() throws TimeoutException {
+		FxToolkit.registerPrimaryStage();
+
+		// Each pass closes all of its stages when done, which must not shut down the toolkit.
+		Platform.setImplicitExit(false);
+	}
+
+	@Test
+	@Order(1)
+	void singleStage() {
+		Pass pass = small = new Pass("small", 1);
+		pass.run();
+		assertThat(pass.failures).isEmpty();
+	}
+
+	@Test
+	@Order(2)
+	void manyStages() {
+		Pass pass = full = new Pass("full", Math.max(1, STAGES));
+		pass.run();
+		assertThat(pass.failures).isEmpty();
+	}
+
+	@Test
+	@Order(3)
+	void operationCostDoesNotScaleWithLayoutSize() {
+		Pass small = StressSuiteTest.small;
+		Pass full = StressSuiteTest.full;
+		assumeTrue(small != null && full != null, "Both passes must have run");
+		assumeTrue(small.dockableCount > 0 && full.dockableCount > small.dockableCount, "Full pass must be larger");
+
+		// Per-operation cost is bounded by a constant factor, regardless of how much larger the full layout is.
+		double sizeRatio = (double) full.dockableCount / small.dockableCount;
+		List<String> failures = new ArrayList<>();
+		for (String name : List.of("move", "split", "collapse", "close")) {
+			OperationBudget smallBudget = small.budgets.get(name);
+			OperationBudget fullBudget = full.budgets.get(name);
+			if (smallBudget.getCount() == 0 || fullBudget.getCount() == 0)
+				continue;
+			double timeRatio = (double) fullBudget.getTimeNanos(0.5) / Math.max(1, smallBudget.getTimeNanos(0.5));
+			double allocationRatio = (double) fullBudget.getMeanAllocatedBytes() / Math.max(1, smallBudget.getMeanAllocatedBytes());
+			System.out.printf("[scaling] %-10s size x%.1f, time x%.2f, allocation x%.2f%n", name, sizeRatio, timeRatio, allocationRatio);
+			if (timeRatio > SCALING_BOUND)
+				failures.add(String.format("%s: median time grew x%.2f for a x%.1f larger layout", name, timeRatio, sizeRatio));
+			if (allocationRatio > SCALING_BOUND)
+				failures.add(String.format("%s: mean allocation grew x%.2f for a x%.1f larger layout", name, allocationRatio, sizeRatio));
+		}
+		assertThat(failures).isEmpty();
+	}
+
+	/**
+	 * Single run of all scenarios against a layout of the given number of stages.
+	 */
+	private static class Pass {
+		private final Map<String, OperationBudget> budgets = new LinkedHashMap<>();
+		private final List<DragDropStage> stages = new ArrayList<>();
+		private final LeakTracker leaks = new LeakTracker();
+		private final List<String> failures = new ArrayList<>();
+		private final Random random = new Random(SEED);
+		private final Bento bento = new Bento();
+		private final String passName;
+		private final int stageCount;
+		private int dockableCount;
+
+		private Pass(String passName, int stageCount) {
+			this.passName = passName;
+			this.stageCount = stageCount;
+		}
+
+		private void run() {
+			budgets.put("build-stage", new OperationBudget("build-stage", 5000, 256 * 1024, BUDGET_SCALE));
+			budgets.put("move", new OperationBudget("move", 50, 8 * 1024, BUDGET_SCALE));
+			budgets.put("split", new OperationBudget("split", 75, 8 * 1024, BUDGET_SCALE));
+			budgets.put("collapse", new OperationBudget("collapse", 25, 4 * 1024, BUDGET_SCALE));
+			budgets.put("close", new OperationBudget("close", 50, 8 * 1024, BUDGET_SCALE));
+
+			build();
+			int operations = Math.max(1, Math.min(OPERATIONS, dockableCount / 4));
+			for (int i = 0; i < operations; i++) HeadlessFx.run(this::move);
+			for (int i = 0; i < operations; i++) HeadlessFx.run(this::split);
+			for (int i = 0; i < operations; i++) HeadlessFx.run(this::collapse);
+			for (int i = 0; i < operations; i++) HeadlessFx.run(this::close);
+			HeadlessFx.run(this::teardown);
+
+			System.out.printf("[%s] %d stages, %d dockables%n", passName, stageCount, dockableCount);
+			for (OperationBudget budget : budgets.values()) {
+				System.out.println("  " + budget);
+				budget.verify(failures);
+			}
+
+			int tracked = leaks.size();
+			List<String> leaked = leaks.awaitCollected(LEAK_TIMEOUT_MS);
+			System.out.printf("  leak check: %d of %d tracked objects still reachable%n", leaked.size(), tracked);
+			if (!leaked.isEmpty())
+				failures.add(String.format("[%s] %d objects still reachable, including: %s",
+						passName, leaked.size(), leaked.subList(0, Math.min(10, leaked.size()))));
+		}
+
+		private void build() {
+			OperationBudget budget = budgets.get("build-stage");
+			for (int i = 0; i < stageCount; i++) {
+				String prefix = "s" + i + "-";
+				HeadlessFx.run(() -> budget.measure(() -> {
+					DockContainerRootBranch root = BenchLayouts.build(bento, prefix, DEPTH, FANOUT, DOCKABLES_PER_LEAF);
+					for (Dockable dockable : root.getDockables()) {
+						dockable.setTitle(dockable.getIdentifier());
+						dockable.setNode(new Label(dockable.getIdentifier()));
+					}
+
+					DragDropStage stage = new DragDropStage(true);
+					stage.setTitle(prefix + "stage");
+					stage.setScene(new Scene(root, STAGE_WIDTH, STAGE_HEIGHT));
+					stage.show();
+					pulse(stage.getScene());
+					stages.add(stage);
+					dockableCount += root.getDockables().size();
+				}));
+			}
+		}
+
+		/**
+		 * Drops a random dockable onto a random header of another leaf.
+		 */
+		private void move() {
+			Dockable dockable = randomDockable();
+			Dockable targetDockable = randomDockable();
+			DockContainerLeaf sourceLeaf = containerOf(dockable);
+			DockContainerLeaf targetLeaf = containerOf(targetDockable);
+			if (dockable == null || targetDockable == null || sourceLeaf == null || targetLeaf == null || sourceLeaf == targetLeaf)
+				return;
+			Header sourceHeader = sourceLeaf.getHeader(dockable);
+			Header targetHeader = targetLeaf.getHeader(targetDockable);
+			if (sourceHeader == null || targetHeader == null)
+				return;
+
+			Scene sourceScene = sourceLeaf.getScene();
+			Scene targetScene = targetLeaf.getScene();
+			boolean after = random.nextBoolean();
+			DragDropTarget result = budgets.get("move").measure(() -> {
+				DragDropTarget target = DndSimulator.dropOnHeader(dockable, targetHeader, after);
+				pulse(sourceScene, targetScene);
+				return target;
+			});
+
+			if (result != DragDropTarget.HEADER) {
+				failures.add("[" + passName + "] move: drop of '" + dockable.getIdentifier() + "' onto header was rejected");
+			} else if (dockable.getContainer() != targetLeaf) {
+				failures.add("[" + passName + "] move: '" + dockable.getIdentifier() + "' is not in the target leaf");
+			} else {
+				leaks.track("header of moved " + dockable.getIdentifier(), sourceHeader);
+			}
+			reapClosedStages();
+		}
+
+		/**
+		 * Drops a random dockable onto the edge of a random leaf's content.
+		 */
+		private void split() {
+			Dockable dockable = randomDockable();
+			DockContainerLeaf sourceLeaf = containerOf(dockable);
+			DockContainerLeaf targetLeaf = containerOf(randomDockable());
+			if (dockable == null || sourceLeaf == null || targetLeaf == null || !targetLeaf.isCanSplit())
+				return;
+			if (sourceLeaf == targetLeaf && sourceLeaf.getDockables().size() == 1)
+				return;
+			ContentWrapper wrapper = contentWrapper(targetLeaf);
+			Header sourceHeader = sourceLeaf.getHeader(dockable);
+			if (wrapper == null || sourceHeader == null)
+				return;
+
+			Scene sourceScene = sourceLeaf.getScene();
+			Scene targetScene = targetLeaf.getScene();
+			Side side = Side.values()[random.nextInt(Side.values().length)];
+			DragDropTarget result = budgets.get("split").measure(() -> {
+				DragDropTarget target = DndSimulator.dropOnContent(dockable, wrapper, side);
+				pulse(sourceScene, targetScene);
+				return target;
+			});
+
+			DockContainerLeaf newLeaf = dockable.getContainer();
+			DockContainerBranch splitBranch = newLeaf == null ? null : newLeaf.getParentContainer();
+			if (result != DragDropTarget.REGION) {
+				failures.add("[" + passName + "] split: drop of '" + dockable.getIdentifier() + "' onto content was rejected");
+			} else if (splitBranch == null || !splitBranch.getChildContainers().contains(targetLeaf)) {
+				failures.add("[" + passName + "] split: '" + dockable.getIdentifier() + "' was not split next to the target leaf");
+			} else {
+				leaks.track("header of split " + dockable.getIdentifier(), sourceHeader);
+			}
+			reapClosedStages();
+		}
+
+		/**
+		 * Clicks the selected header of a random leaf twice, collapsing and then restoring it.
+		 */
+		private void collapse() {
+			DockContainerLeaf leaf = containerOf(randomDockable());
+			if (leaf == null)
+				return;
+			Dockable selected = leaf.getSelectedDockable();
+			Header header = selected == null ? null : leaf.getHeader(selected);
+			if (header == null)
+				return;
+
+			Scene scene = leaf.getScene();
+			boolean initial = leaf.isCollapsed();
+			OperationBudget budget = budgets.get("collapse");
+			budget.measure(() -> {
+				DndSimulator.click(header, MouseButton.PRIMARY);
+				pulse(scene);
+			});
+			budget.measure(() -> {
+				DndSimulator.click(header, MouseButton.PRIMARY);
+				pulse(scene);
+			});
+
+			if (leaf.isCollapsed() != initial)
+				failures.add("[" + passName + "] collapse: '" + leaf.getIdentifier() + "' was not restored by a second click");
+		}
+
+		/**
+		 * Closes a random dockable, alternating between a middle-click on its header and the leaf's close method.
+		 */
+		private void close() {
+			Dockable dockable = randomDockable();
+			DockContainerLeaf leaf = containerOf(dockable);
+			Header header = leaf == null ? null : leaf.getHeader(dockable);
+			if (dockable == null || leaf == null || header == null)
+				return;
+
+			String id = dockable.getIdentifier();
+			Scene scene = leaf.getScene();
+			boolean viaHeader = random.nextBoolean();
+			budgets.get("close").measure(() -> {
+				if (viaHeader)
+					DndSimulator.click(header, MouseButton.MIDDLE);
+				else
+					leaf.closeDockable(dockable);
+				pulse(scene);
+			});
+
+			if (bento.search().dockable(id) != null) {
+				failures.add("[" + passName + "] close: '" + id + "' remains after closing");
+			} else {
+				leaks.track("closed dockable " + id, dockable);
+				leaks.track("header of closed " + id, header);
+			}
+			reapClosedStages();
+		}
+
+		/**
+		 * Requests all stages to close, as if the user closed each window.
+		 */
+		private void teardown() {
+			for (DragDropStage stage : stages) {
+				Parent root = stage.getScene().getRoot();
+				if (root instanceof DockContainerBranch branch)
+					for (Dockable dockable : branch.getDockables())
+						leaks.track("dockable " + dockable.getIdentifier() + " of closed stage", dockable);
+				leaks.track("root of closed stage", root);
+
+				Event.fireEvent(stage, new WindowEvent(stage, WindowEvent.WINDOW_CLOSE_REQUEST));
+				if (stage.isShowing())
+					stage.close();
+			}
+			reapClosedStages();
+
+			if (!bento.getRootContainers().isEmpty())
+				failures.add("[" + passName + "] teardown: " + bento.getRootContainers().size() + " roots remain registered");
+		}
+
+		/**
+		 * Stages automatically close when all of their dockables are moved out or closed.
+		 * These are dropped from our own list so that we do not keep them alive.
+		 */
+		private void reapClosedStages() {
+			stages.removeIf(stage -> {
+				if (stage.isShowing())
+					return false;
+				leaks.track("closed stage " + stage.getTitle(), stage);
+				return true;
+			});
+		}
+
+		@Nullable
+		private Dockable randomDockable() {
+			// Operations are picked from across all registered roots, which shrink and grow as operations are run.
+			List<DockContainerRootBranch> roots = bento.getRootContainers();
+			if (roots.isEmpty())
+				return null;
+			DockContainerRootBranch root = roots.get(random.nextInt(roots.size()));
+			List<Dockable> dockables = root.getDockables();
+			if (dockables.isEmpty())
+				return null;
+			return dockables.get(random.nextInt(dockables.size()));
+		}
+	}
+
+	@Nullable
+	private static DockContainerLeaf containerOf(@Nullable Dockable dockable) {
+		return dockable == null ? null : dockable.getContainer();
+	}
+
+	@Nullable
+	private static ContentWrapper contentWrapper(DockContainerLeaf leaf) {
+		List<ContentWrapper> wrappers = BentoUtils.getCastChildren(leaf, ContentWrapper.class);
+		return wrappers.isEmpty() ? null : wrappers.getFirst();
+	}
+
+	private static void pulse(@Nullable Scene... scenes) {
+		// Headless stages do not receive regular pulses while we hold the FX thread,
+		// so we need to run the CSS and layout passes that would have happened after each operation.
+		for (Scene scene : scenes) {
+			if (scene == null)
+				continue;
+			Parent root = scene.getRoot();
+			root.applyCss();
+			root.layout();
+		}
+	}
+
+	private static double doubleProperty(String key, double defaultValue) {
+		String value = System.getProperty(key);
+		if (value == null)
+			return defaultValue;
+		try {
+			return Double.parseDouble(value);
+		} catch (NumberFormatException ex) {
+			return defaultValue;
+		}
+	}
+}
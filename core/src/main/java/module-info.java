@@ -14,6 +14,7 @@
 	requires javafx.graphics;
 	requires javafx.controls;
 	requires java.desktop;
+	requires jdk.jfr;
 
 	exports software.coley.bentofx;
 	exports software.coley.bentofx.building;
@@ -21,9 +22,12 @@
 	exports software.coley.bentofx.control.canvas;
 	exports software.coley.bentofx.dockable;
 	exports software.coley.bentofx.event;
+	exports software.coley.bentofx.jfr;
 	exports software.coley.bentofx.layout;
 	exports software.coley.bentofx.layout.container;
+	exports software.coley.bentofx.metrics;
 	exports software.coley.bentofx.path;
 	exports software.coley.bentofx.search;
+	exports software.coley.bentofx.snapshot;
 	exports software.coley.bentofx.util;
 }
@@ -2,6 +2,7 @@
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import org.jspecify.annotations.Nullable;
 import software.coley.bentofx.building.ControlsBuilding;
 import software.coley.bentofx.building.DockBuilding;
 import software.coley.bentofx.building.PlaceholderBuilding;
@@ -10,11 +11,21 @@
 import software.coley.bentofx.dockable.Dockable;
 import software.coley.bentofx.dockable.DockableClickBehavior;
 import software.coley.bentofx.dockable.DockableDragDropBehavior;
+import software.coley.bentofx.dockable.IconCache;
 import software.coley.bentofx.event.DockEvent;
 import software.coley.bentofx.event.EventBus;
 import software.coley.bentofx.layout.DockContainer;
 import software.coley.bentofx.layout.container.DockContainerRootBranch;
+import software.coley.bentofx.metrics.BentoMetrics;
 import software.coley.bentofx.search.SearchHandler;
+import software.coley.bentofx.snapshot.LayoutApplier;
+import software.coley.bentofx.snapshot.LayoutApplyResult;
+import software.coley.bentofx.snapshot.LayoutSnapshot;
+import software.coley.bentofx.snapshot.LayoutSnapshotTracker;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
 
 /**
  * Top level controller for docking operations.
@@ -26,12 +37,16 @@ public class Bento {
 	private final ObservableList<DockContainerRootBranch> rootContainersView = FXCollections.unmodifiableObservableList(rootContainers);
 	private final EventBus eventBus = newEventBus();
 	private final SearchHandler searchHandler = newSearchHandler();
+	private final LayoutSnapshotTracker snapshotTracker = newSnapshotTracker();
 	private final StageBuilding stageBuilding = newStageBuilding();
 	private final ControlsBuilding controlsBuilding = newControlsBuilding();
 	private final DockBuilding dockBuilding = newDockBuilding();
 	private final PlaceholderBuilding placeholderBuilding = newPlaceholderBuilding();
+	private final IconCache iconCache = newIconCache();
 	private final DockableDragDropBehavior dragDropBehavior = newDragDropBehavior();
 	private final DockableClickBehavior clickBehavior = newClickBehavior();
+	private BentoMetrics metrics = BentoMetrics.NONE;
+	private @Nullable Executor contentExecutor;
 
 	protected EventBus newEventBus() {
 		return new EventBus();
@@ -41,6 +56,10 @@ protected SearchHandler newSearchHandler() {
 		return new SearchHandler(this);
 	}
 
+	protected LayoutSnapshotTracker newSnapshotTracker() {
+		return new LayoutSnapshotTracker(this);
+	}
+
 	protected StageBuilding newStageBuilding() {
 		return new StageBuilding(this);
 	}
@@ -57,6 +76,10 @@ protected PlaceholderBuilding newPlaceholderBuilding() {
 		return new PlaceholderBuilding();
 	}
 
+	protected IconCache newIconCache() {
+		return new IconCache();
+	}
+
 	protected DockableDragDropBehavior newDragDropBehavior() {
 		return new DockableDragDropBehavior() {};
 	}
@@ -79,6 +102,46 @@ public SearchHandler search() {
 		return searchHandler;
 	}
 
+	/**
+	 * @return Tracker maintaining the {@link #snapshot() layout snapshot}.
+	 */
+	public LayoutSnapshotTracker snapshotTracker() {
+		return snapshotTracker;
+	}
+
+	/**
+	 * Snapshots are maintained incrementally as the layout changes, so this does not walk the layout,
+	 * and unlike the live containers the result can be read from any thread.
+	 *
+	 * @return Immutable snapshot of the current layout of all registered root containers.
+	 */
+	public LayoutSnapshot snapshot() {
+		return snapshotTracker.getSnapshot();
+	}
+
+	/**
+	 * Applies a target layout to the live layout, changing only the containers and dockables which differ.
+	 * Containers and dockables are matched by identifier.
+	 * Events for each change are delivered once the layout is applied, followed by a {@link DockEvent.LayoutApplied} event.
+	 *
+	 * @param target
+	 * 		Layout to apply, such as one previously taken from {@link #snapshot()}.
+	 *
+	 * @return Outcome of applying the layout.
+	 *
+	 * @see LayoutApplier
+	 */
+	public LayoutApplyResult applyLayout(LayoutSnapshot target) {
+		return newLayoutApplier().apply(target);
+	}
+
+	/**
+	 * @return New applier for {@link #applyLayout(LayoutSnapshot)}.
+	 */
+	protected LayoutApplier newLayoutApplier() {
+		return new LayoutApplier(this);
+	}
+
 	/**
 	 * @return Builders for {@link DragDropStage}.
 	 */
@@ -107,6 +170,13 @@ public PlaceholderBuilding placeholderBuilding() {
 		return placeholderBuilding;
 	}
 
+	/**
+	 * @return Cache of dockable icon images, shared by all headers and menus.
+	 */
+	public IconCache iconCache() {
+		return iconCache;
+	}
+
 	/**
 	 * @return Behavior implementation for drag-drop operations.
 	 */
@@ -121,6 +191,47 @@ public DockableClickBehavior getClickBehavior() {
 		return clickBehavior;
 	}
 
+	/**
+	 * @return Instrumentation for docking operations. {@link BentoMetrics#NONE} unless assigned.
+	 */
+	public BentoMetrics metrics() {
+		return metrics;
+	}
+
+	/**
+	 * @param metrics
+	 * 		Instrumentation to record docking operations with.
+	 *        {@code null} to disable instrumentation.
+	 */
+	public void setMetrics(@Nullable BentoMetrics metrics) {
+		if (metrics == null)
+			metrics = BentoMetrics.NONE;
+		this.metrics = metrics;
+		eventBus.setMetrics(metrics);
+	}
+
+	/**
+	 * @return Executor that prepares {@link Dockable#setNodeAsync(java.util.concurrent.Callable, java.util.function.Function) async dockable content}.
+	 * By default, each task runs on its own virtual thread.
+	 */
+	public Executor getContentExecutor() {
+		Executor executor = contentExecutor;
+		if (executor == null) {
+			ThreadFactory factory = Thread.ofVirtual().name("bento-content-", 0).factory();
+			executor = contentExecutor = Executors.newThreadPerTaskExecutor(factory);
+		}
+		return executor;
+	}
+
+	/**
+	 * @param contentExecutor
+	 * 		Executor that prepares async dockable content.
+	 *        {@code null} to use the default virtual thread executor.
+	 */
+	public void setContentExecutor(@Nullable Executor contentExecutor) {
+		this.contentExecutor = contentExecutor;
+	}
+
 	/**
 	 * @return List of tracked root contents.
 	 *
@@ -2,9 +2,13 @@
 
 import software.coley.bentofx.control.canvas.PixelCanvas;
 import software.coley.bentofx.layout.container.DockContainerLeaf;
+import software.coley.bentofx.layout.container.DockContainerRootBranch;
 
 /**
  * Factory for building a {@link PixelCanvas} for a {@link DockContainerLeaf}.
+ * <p/>
+ * When {@link ControlsBuilding#isSharedCanvas() shared canvas mode} is used, canvases are instead
+ * created once per {@link DockContainerRootBranch} and shared by all leaves within it.
  *
  * @author Matt Coley
  */
@@ -16,4 +20,14 @@ public interface CanvasFactory {
 	 * @return New canvas.
 	 */
 	PixelCanvas newCanvas(DockContainerLeaf container);
+
+	/**
+	 * @param container
+	 * 		Root container to overlay the canvas on top of.
+	 *
+	 * @return New canvas shared by all leaves within the root container.
+	 */
+	default PixelCanvas newCanvas(DockContainerRootBranch container) {
+		return new PixelCanvas();
+	}
 }
@@ -2,14 +2,18 @@
 
 import javafx.geometry.Orientation;
 import javafx.geometry.Side;
+import javafx.util.Duration;
 import org.jspecify.annotations.Nullable;
 import software.coley.bentofx.control.ContentWrapper;
+import software.coley.bentofx.control.FrozenContentMode;
 import software.coley.bentofx.control.Header;
 import software.coley.bentofx.control.HeaderPane;
 import software.coley.bentofx.control.Headers;
 import software.coley.bentofx.control.canvas.PixelCanvas;
 import software.coley.bentofx.dockable.Dockable;
+import software.coley.bentofx.layout.container.DockContainerBranch;
 import software.coley.bentofx.layout.container.DockContainerLeaf;
+import software.coley.bentofx.layout.container.DockContainerRootBranch;
 
 /**
  * Builders for various bento UI controls.
@@ -27,6 +31,10 @@ public class ControlsBuilding implements HeaderPaneFactory, HeadersFactory, Head
 	private HeaderFactory headerFactory = DEFAULT_HEADER_FACTORY;
 	private ContentWrapperFactory contentWrapperFactory = DEFAULT_CONTENT_WRAPPER_FACTORY;
 	private CanvasFactory canvasFactory = DEFAULT_CANVAS_FACTORY;
+	private boolean sharedCanvas;
+	private @Nullable FrozenContentMode dividerDragFreezeMode;
+	private @Nullable Duration dividerDragRefreshInterval;
+	private double layoutThrottle;
 
 	/**
 	 * @return Factory for creating {@link HeaderPane}.
@@ -75,6 +83,8 @@ public HeaderFactory getHeaderFactory() {
 	 * @param headerFactory
 	 * 		Factory for creating {@link Header}.
 	 *        {@code null} to use the default factory.
+	 *
+	 * @see HeaderFactory#COMPACT
 	 */
 	public void setHeaderFactory(@Nullable HeaderFactory headerFactory) {
 		if (headerFactory == null)
@@ -118,6 +128,92 @@ public void setCanvasFactory(@Nullable CanvasFactory canvasFactory) {
 		this.canvasFactory = canvasFactory;
 	}
 
+	/**
+	 * @return {@code true} when leaves draw their overlay hints to a single canvas shared across their
+	 * {@link DockContainerRootBranch} instead of each leaf allocating its own canvas.
+	 */
+	public boolean isSharedCanvas() {
+		return sharedCanvas;
+	}
+
+	/**
+	 * A shared canvas means only one canvas image is allocated per root container, rather than one per leaf.
+	 * This is preferable for layouts with many leaves. Only leaves created after this is set are affected.
+	 *
+	 * @param sharedCanvas
+	 *        {@code true} to have leaves draw their overlay hints to a single canvas shared across
+	 * 		their {@link DockContainerRootBranch}.
+	 *        {@code false} to have each leaf allocate its own canvas.
+	 */
+	public void setSharedCanvas(boolean sharedCanvas) {
+		this.sharedCanvas = sharedCanvas;
+	}
+
+	/**
+	 * @return Mode of the snapshot stand-ins shown in place of content while a divider is dragged,
+	 * or {@code null} when content is laid out live during divider drags.
+	 */
+	@Nullable
+	public FrozenContentMode getDividerDragFreezeMode() {
+		return dividerDragFreezeMode;
+	}
+
+	/**
+	 * When set, dragging a {@link DockContainerBranch} divider replaces the content of the leaves on either side with
+	 * snapshot images, and only lays out the real content when the divider is released.
+	 * This keeps resizing smooth regardless of how expensive the content is to lay out.
+	 *
+	 * @param dividerDragFreezeMode
+	 * 		Mode of the snapshot stand-ins shown in place of content while a divider is dragged.
+	 *        {@code null} to lay out content live during divider drags.
+	 */
+	public void setDividerDragFreezeMode(@Nullable FrozenContentMode dividerDragFreezeMode) {
+		this.dividerDragFreezeMode = dividerDragFreezeMode;
+	}
+
+	/**
+	 * @return Interval at which frozen content is re-laid out and re-captured while a divider is dragged,
+	 * or {@code null} to only lay out content when the divider is released.
+	 */
+	@Nullable
+	public Duration getDividerDragRefreshInterval() {
+		return dividerDragRefreshInterval;
+	}
+
+	/**
+	 * @param dividerDragRefreshInterval
+	 * 		Interval at which frozen content is re-laid out and re-captured while a divider is dragged.
+	 *        {@code null} to only lay out content when the divider is released.
+	 *
+	 * @see #setDividerDragFreezeMode(FrozenContentMode)
+	 */
+	public void setDividerDragRefreshInterval(@Nullable Duration dividerDragRefreshInterval) {
+		this.dividerDragRefreshInterval = dividerDragRefreshInterval;
+	}
+
+	/**
+	 * @return Maximum number of times per second new containers lay out their children while being resized.
+	 * {@code 0} when not throttled.
+	 */
+	public double getLayoutThrottle() {
+		return layoutThrottle;
+	}
+
+	/**
+	 * Throttling reduces the cost of window and divider resizes in layouts with many leaves, at the cost of content
+	 * lagging behind the resize. Only containers created after this is set are affected.
+	 *
+	 * @param layoutThrottle
+	 * 		Maximum number of times per second new containers lay out their children while being resized,
+	 * 		such as {@code 30}. {@code 0} to not throttle.
+	 *
+	 * @see DockContainerBranch#setLayoutThrottle(double)
+	 * @see DockContainerLeaf#setLayoutThrottle(double)
+	 */
+	public void setLayoutThrottle(double layoutThrottle) {
+		this.layoutThrottle = Math.max(0, layoutThrottle);
+	}
+
 	@Override
 	public HeaderPane newHeaderPane(DockContainerLeaf container) {
 		return headerPaneFactory.newHeaderPane(container);
@@ -142,4 +238,9 @@ public ContentWrapper newContentWrapper(DockContainerLeaf container) {
 	public PixelCanvas newCanvas(DockContainerLeaf container) {
 		return canvasFactory.newCanvas(container);
 	}
+
+	@Override
+	public PixelCanvas newCanvas(DockContainerRootBranch container) {
+		return canvasFactory.newCanvas(container);
+	}
 }
@@ -6,6 +6,7 @@
 import software.coley.bentofx.layout.container.DockContainerBranch;
 import software.coley.bentofx.layout.container.DockContainerLeaf;
 import software.coley.bentofx.layout.container.DockContainerRootBranch;
+import software.coley.bentofx.snapshot.BranchSnapshot;
 
 import java.util.Random;
 
@@ -101,6 +102,20 @@ public DockContainerLeaf leaf(String identifier) {
 		return new DockContainerLeaf(bento, identifier);
 	}
 
+	/**
+	 * @param root
+	 * 		Root container to build the layout into.
+	 * @param layout
+	 * 		Layout to build.
+	 * @param factory
+	 * 		Factory to create the layout's dockables with.
+	 *
+	 * @return Builder which populates the root container over multiple pulses once {@link IncrementalLayoutBuilder#start() started}.
+	 */
+	public IncrementalLayoutBuilder incremental(DockContainerRootBranch root, BranchSnapshot layout, DockableFactory factory) {
+		return new IncrementalLayoutBuilder(bento, root, layout, factory);
+	}
+
 	private static String uid(String prefix) {
 		StringBuilder suffix = new StringBuilder(8);
 		for (int i = 0; i < 8; i++)
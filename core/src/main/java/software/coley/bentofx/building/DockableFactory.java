@@ -0,0 +1,21 @@
+package software.coley.bentofx.building;
+
+import org.jspecify.annotations.Nullable;
+import software.coley.bentofx.dockable.Dockable;
+
+/**
+ * Factory for building a {@link Dockable} from its identifier, such as when restoring a saved layout.
+ *
+ * @author Matt Coley
+ * @see IncrementalLayoutBuilder
+ */
+public interface DockableFactory {
+	/**
+	 * @param identifier
+	 * 		Identifier of the dockable to build.
+	 *
+	 * @return New dockable, or {@code null} if the identifier is no longer known to the application.
+	 */
+	@Nullable
+	Dockable newDockable(String identifier);
+}
@@ -1,5 +1,6 @@
 package software.coley.bentofx.building;
 
+import software.coley.bentofx.control.CompactHeader;
 import software.coley.bentofx.control.Header;
 import software.coley.bentofx.control.HeaderPane;
 import software.coley.bentofx.dockable.Dockable;
@@ -10,6 +11,13 @@
  * @author Matt Coley
  */
 public interface HeaderFactory {
+	/**
+	 * Factory for {@link CompactHeader}, a lighter weight header for containers with many dockables.
+	 *
+	 * @see ControlsBuilding#setHeaderFactory(HeaderFactory)
+	 */
+	HeaderFactory COMPACT = (dockable, parentPane) -> new CompactHeader(dockable, parentPane).withDragDrop();
+
 	/**
 	 * @param dockable
 	 * 		Dockable to wrap.
@@ -0,0 +1,262 @@
+package software.coley.bentofx.building;
+
+import javafx.animation.AnimationTimer;
+import javafx.beans.property.ReadOnlyDoubleProperty;
+import javafx.beans.property.ReadOnlyDoubleWrapper;
+import javafx.util.Duration;
+import org.jspecify.annotations.Nullable;
+import software.coley.bentofx.Bento;
+import software.coley.bentofx.dockable.Dockable;
+import software.coley.bentofx.layout.DockContainer;
+import software.coley.bentofx.layout.container.DockContainerBranch;
+import software.coley.bentofx.layout.container.DockContainerLeaf;
+import software.coley.bentofx.layout.container.DockContainerRootBranch;
+import software.coley.bentofx.snapshot.BranchSnapshot;
+import software.coley.bentofx.snapshot.ContainerSnapshot;
+import software.coley.bentofx.snapshot.LeafSnapshot;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Builds a layout into a root container over multiple FX pulses, so that large layouts do not freeze the UI.
+ * <p/>
+ * Work is done in the following order, with each pulse doing as much as fits within the {@link #getPulseBudget() budget}:
+ * <ol>
+ *     <li>Containers, so that the overall layout is visible immediately.</li>
+ *     <li>Divider positions.</li>
+ *     <li>The selected dockable of each leaf, which is the content that is visible.</li>
+ *     <li>All other dockables, which are hidden behind the selected ones.</li>
+ *     <li>Collapsed states, which depend on the leaf headers being populated.</li>
+ * </ol>
+ * At least one unit of work is done each pulse, so a single slow dockable delays but never stalls the build.
+ *
+ * @author Matt Coley
+ * @see DockBuilding#incremental(DockContainerRootBranch, BranchSnapshot, DockableFactory)
+ */
+public class IncrementalLayoutBuilder {
+	private static final Duration DEFAULT_PULSE_BUDGET = Duration.millis(8);
+	private final ReadOnlyDoubleWrapper progress = new ReadOnlyDoubleWrapper();
+	private final CompletableFuture<DockContainerRootBranch> completion = new CompletableFuture<>();
+	private final Map<ContainerSnapshot, DockContainer> built = new IdentityHashMap<>();
+	private final Queue<Runnable> work = new ArrayDeque<>();
+	private final List<String> missingDockables = new ArrayList<>();
+	private final Bento bento;
+	private final DockContainerRootBranch root;
+	private final BranchSnapshot layout;
+	private final DockableFactory factory;
+	private final AnimationTimer timer = new AnimationTimer() {
+		@Override
+		public void handle(long now) {
+			step();
+		}
+	};
+	private Duration pulseBudget = DEFAULT_PULSE_BUDGET;
+	private int total;
+	private int done;
+	private boolean started;
+
+	/**
+	 * @param bento
+	 * 		Parent bento instance.
+	 * @param root
+	 * 		Root container to build the layout into.
+	 * @param layout
+	 * 		Layout to build. The root container takes the orientation and children of this branch.
+	 * @param factory
+	 * 		Factory to create the layout's dockables with.
+	 */
+	public IncrementalLayoutBuilder(Bento bento, DockContainerRootBranch root, BranchSnapshot layout, DockableFactory factory) {
+		this.bento = bento;
+		this.root = root;
+		this.layout = layout;
+		this.factory = factory;
+	}
+
+	/**
+	 * Begins building the layout on the next pulse. Must be called on the FX thread.
+	 *
+	 * @return Future completed with the root container once the layout is fully built.
+	 */
+	public CompletableFuture<DockContainerRootBranch> start() {
+		if (started)
+			return completion;
+		started = true;
+
+		List<LeafSnapshot> leaves = new ArrayList<>();
+		built.put(layout, root);
+		work.add(() -> root.setOrientation(layout.orientation()));
+		queueChildren(layout, leaves);
+		queueDividers(layout);
+		for (LeafSnapshot leaf : leaves) {
+			String selected = leaf.selected();
+			if (selected != null && leaf.dockables().contains(selected))
+				work.add(() -> addDockable(leaf, selected));
+		}
+		for (LeafSnapshot leaf : leaves)
+			for (String dockable : leaf.dockables())
+				if (!dockable.equals(leaf.selected()))
+					work.add(() -> addDockable(leaf, dockable));
+		for (LeafSnapshot leaf : leaves)
+			if (leaf.collapsed())
+				work.add(() -> collapse(leaf));
+		total = work.size();
+
+		timer.start();
+		return completion;
+	}
+
+	/**
+	 * Stops building. Anything already built remains in the root container.
+	 */
+	public void cancel() {
+		timer.stop();
+		work.clear();
+		completion.cancel(false);
+	}
+
+	/**
+	 * @return Future completed with the root container once the layout is fully built.
+	 */
+	public CompletableFuture<DockContainerRootBranch> getCompletion() {
+		return completion;
+	}
+
+	/**
+	 * @return Fraction of the layout built, from {@code 0} to {@code 1}.
+	 */
+	public double getProgress() {
+		return progress.get();
+	}
+
+	/**
+	 * @return Fraction of the layout built, from {@code 0} to {@code 1}.
+	 */
+	public ReadOnlyDoubleProperty progressProperty() {
+		return progress.getReadOnlyProperty();
+	}
+
+	/**
+	 * @return Identifiers of dockables the {@link DockableFactory} could not create.
+	 */
+	public List<String> getMissingDockables() {
+		return Collections.unmodifiableList(missingDockables);
+	}
+
+	/**
+	 * @return Time spent building per pulse.
+	 */
+	public Duration getPulseBudget() {
+		return pulseBudget;
+	}
+
+	/**
+	 * @param pulseBudget
+	 * 		Time spent building per pulse.
+	 *        {@code null} to use the default budget.
+	 */
+	public void setPulseBudget(@Nullable Duration pulseBudget) {
+		if (pulseBudget == null)
+			pulseBudget = DEFAULT_PULSE_BUDGET;
+		this.pulseBudget = pulseBudget;
+	}
+
+	private void step() {
+		long budget = (long) (pulseBudget.toMillis() * 1_000_000);
+		long start = System.nanoTime();
+		try {
+			do {
+				Runnable task = work.poll();
+				if (task == null)
+					break;
+				task.run();
+				done++;
+			} while (System.nanoTime() - start < budget);
+		} catch (Throwable t) {
+			timer.stop();
+			work.clear();
+			completion.completeExceptionally(t);
+			return;
+		}
+
+		progress.set(total == 0 ? 1 : (double) done / total);
+		if (work.isEmpty()) {
+			timer.stop();
+			completion.complete(root);
+		}
+	}
+
+	private void queueChildren(BranchSnapshot branch, List<LeafSnapshot> leaves) {
+		for (ContainerSnapshot child : branch.children()) {
+			work.add(() -> {
+				DockContainerBranch parent = (DockContainerBranch) built.get(branch);
+				DockContainer container = switch (child) {
+					case BranchSnapshot b -> {
+						DockContainerBranch created = bento.dockBuilding().branch(b.identifier());
+						created.setOrientation(b.orientation());
+						yield created;
+					}
+					case LeafSnapshot l -> {
+						DockContainerLeaf created = bento.dockBuilding().leaf(l.identifier());
+						created.setSide(l.side());
+						yield created;
+					}
+				};
+				built.put(child, container);
+				parent.addContainer(container);
+			});
+			switch (child) {
+				case BranchSnapshot b -> queueChildren(b, leaves);
+				case LeafSnapshot l -> leaves.add(l);
+			}
+		}
+	}
+
+	private void queueDividers(BranchSnapshot branch) {
+		for (ContainerSnapshot child : branch.children())
+			if (child instanceof BranchSnapshot childBranch)
+				queueDividers(childBranch);
+
+		List<Double> positions = branch.dividerPositions();
+		if (!positions.isEmpty() && positions.size() == branch.children().size() - 1)
+			work.add(() -> {
+				double[] array = new double[positions.size()];
+				for (int i = 0; i < array.length; i++)
+					array[i] = positions.get(i);
+				((DockContainerBranch) built.get(branch)).setDividerPositions(array);
+			});
+	}
+
+	private void collapse(LeafSnapshot leaf) {
+		DockContainerLeaf live = (DockContainerLeaf) built.get(leaf);
+		DockContainerBranch parent = live.getParentContainer();
+		if (parent != null)
+			parent.setContainerCollapsed(live, true);
+	}
+
+	private void addDockable(LeafSnapshot leaf, String identifier) {
+		DockContainerLeaf live = (DockContainerLeaf) built.get(leaf);
+		Dockable dockable = factory.newDockable(identifier);
+		if (dockable == null) {
+			missingDockables.add(identifier);
+			return;
+		}
+
+		// Insert after the dockables that precede it in the layout which have already been added.
+		List<String> order = leaf.dockables();
+		int position = order.indexOf(identifier);
+		int index = 0;
+		for (Dockable existing : live.getDockables()) {
+			int existingPosition = order.indexOf(existing.getIdentifier());
+			if (existingPosition >= 0 && existingPosition < position)
+				index++;
+		}
+		live.addDockable(index, dockable);
+	}
+}
@@ -2,23 +2,36 @@
 
 import javafx.scene.Node;
 import javafx.scene.layout.Pane;
+import org.jspecify.annotations.Nullable;
 import software.coley.bentofx.dockable.Dockable;
 import software.coley.bentofx.dockable.DockablePlaceholderFactory;
 import software.coley.bentofx.layout.container.DockContainerLeaf;
 import software.coley.bentofx.layout.container.DockContainerLeafPlaceholderFactory;
 
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Function;
+
 /**
  * Builders for placeholder content when:
  * <ul>
  *     <li>A {@link Dockable} is selected in a {@link DockContainerLeaf} but has no content to show</li>
  *     <li>A {@link DockContainerLeaf} has no selected dockable</li>
  * </ul>
+ * Factories registered as <i>reusable</i> have their output cached per dockable and per container,
+ * so that selection changes do not build a new placeholder each time. Both the keys and the cached placeholders
+ * are weakly held, so placeholders may reference their dockable or container without keeping them alive.
  *
  * @author Matt Coley
  */
 public class PlaceholderBuilding implements DockablePlaceholderFactory, DockContainerLeafPlaceholderFactory {
 	private DockablePlaceholderFactory dockablePlaceholderFactory = dockable -> new Pane();
 	private DockContainerLeafPlaceholderFactory containerPlaceholderFactory = container -> new Pane();
+	private final Map<Dockable, WeakReference<Node>> dockablePlaceholders = new WeakHashMap<>();
+	private final Map<DockContainerLeaf, WeakReference<Node>> containerPlaceholders = new WeakHashMap<>();
+	private boolean dockablePlaceholdersReusable = true;
+	private boolean containerPlaceholdersReusable = true;
 
 	/**
 	 * @return Current placeholder factory for dockables with no content to show.
@@ -32,7 +45,20 @@ public DockablePlaceholderFactory getDockablePlaceholderFactory() {
 	 * 		Placeholder factory for dockables with no content to show.
 	 */
 	public void setDockablePlaceholderFactory(DockablePlaceholderFactory dockablePlaceholderFactory) {
+		setDockablePlaceholderFactory(dockablePlaceholderFactory, false);
+	}
+
+	/**
+	 * @param dockablePlaceholderFactory
+	 * 		Placeholder factory for dockables with no content to show.
+	 * @param reusable
+	 *        {@code true} when the placeholder built for a dockable can be shown again for that same dockable,
+	 * 		allowing it to be cached.
+	 */
+	public void setDockablePlaceholderFactory(DockablePlaceholderFactory dockablePlaceholderFactory, boolean reusable) {
 		this.dockablePlaceholderFactory = dockablePlaceholderFactory;
+		dockablePlaceholdersReusable = reusable;
+		dockablePlaceholders.clear();
 	}
 
 	/**
@@ -47,16 +73,51 @@ public DockContainerLeafPlaceholderFactory getContainerPlaceholderFactory() {
 	 * 		Placeholder factory for containers with no content to show.
 	 */
 	public void setContainerPlaceholderFactory(DockContainerLeafPlaceholderFactory containerPlaceholderFactory) {
+		setContainerPlaceholderFactory(containerPlaceholderFactory, false);
+	}
+
+	/**
+	 * @param containerPlaceholderFactory
+	 * 		Placeholder factory for containers with no content to show.
+	 * @param reusable
+	 *        {@code true} when the placeholder built for a container can be shown again for that same container,
+	 * 		allowing it to be cached.
+	 */
+	public void setContainerPlaceholderFactory(DockContainerLeafPlaceholderFactory containerPlaceholderFactory, boolean reusable) {
 		this.containerPlaceholderFactory = containerPlaceholderFactory;
+		containerPlaceholdersReusable = reusable;
+		containerPlaceholders.clear();
+	}
+
+	/**
+	 * Drops all cached placeholders, so that they are rebuilt when next shown.
+	 */
+	public void clearPlaceholderCache() {
+		dockablePlaceholders.clear();
+		containerPlaceholders.clear();
 	}
 
 	@Override
 	public Node build(Dockable dockable) {
-		return getDockablePlaceholderFactory().build(dockable);
+		if (!dockablePlaceholdersReusable)
+			return getDockablePlaceholderFactory().build(dockable);
+		return cached(dockablePlaceholders, dockable, getDockablePlaceholderFactory()::build);
 	}
 
 	@Override
 	public Node build(DockContainerLeaf container) {
-		return getContainerPlaceholderFactory().build(container);
+		if (!containerPlaceholdersReusable)
+			return getContainerPlaceholderFactory().build(container);
+		return cached(containerPlaceholders, container, getContainerPlaceholderFactory()::build);
+	}
+
+	private static <K> Node cached(Map<K, WeakReference<Node>> cache, K key, Function<K, Node> factory) {
+		WeakReference<Node> ref = cache.get(key);
+		@Nullable Node node = ref == null ? null : ref.get();
+		if (node == null) {
+			node = factory.apply(key);
+			cache.put(key, new WeakReference<>(node));
+		}
+		return node;
 	}
 }
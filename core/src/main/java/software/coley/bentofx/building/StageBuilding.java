@@ -18,6 +18,7 @@
 import software.coley.bentofx.layout.container.DockContainerLeaf;
 import software.coley.bentofx.layout.container.DockContainerLeafMenuFactory;
 import software.coley.bentofx.layout.container.DockContainerRootBranch;
+import software.coley.bentofx.metrics.BentoMetrics;
 
 import java.util.function.Consumer;
 
@@ -148,6 +149,9 @@ public DragDropStage newStageForDockable(@Nullable Scene sourceScene,
 	                                         Dockable dockable,
 	                                         double width, double height,
 	                                         @Nullable Consumer<DockContainerLeaf> leafSetup) {
+		BentoMetrics metrics = bento.metrics();
+		long start = metrics.isEnabled() ? System.nanoTime() : 0;
+
 		// Sanity check, leaf shouldn't have an existing parent.
 		if (leaf.getParentContainer() != root && leaf.getParentContainer() != null)
 			leaf.removeFromParent();
@@ -194,6 +198,8 @@ public DragDropStage newStageForDockable(@Nullable Scene sourceScene,
 		if (leafSetup != null)
 			leafSetup.accept(leaf);
 
+		if (metrics.isEnabled())
+			metrics.recordTime(BentoMetrics.STAGE_CREATE, System.nanoTime() - start);
 		return stage;
 	}
 
@@ -0,0 +1,216 @@
+package software.coley.bentofx.control;
+
+import javafx.geometry.Bounds;
+import javafx.geometry.Insets;
+import javafx.geometry.Side;
+import javafx.scene.Node;
+import javafx.scene.input.MouseButton;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.text.Text;
+import org.jspecify.annotations.Nullable;
+import software.coley.bentofx.dockable.Dockable;
+
+/**
+ * Lightweight {@link Header} which lays out its title, graphic and close glyph itself, rather than through
+ * nested panes and controls. The close glyph is plain text with its own hit-testing in place of a button,
+ * so each header is at most four nodes with far fewer to style. Useful for containers with hundreds of tabs.
+ * <p/>
+ * The title is styled with {@code .header-title} and the close glyph with {@code .close-glyph}.
+ *
+ * @author Matt Coley
+ * @see software.coley.bentofx.building.HeaderFactory#COMPACT
+ */
+public class CompactHeader extends Header {
+	private static final double GAP = 6;
+	private static final Insets PADDING = new Insets(6);
+	private static final double CLOSE_SLACK = 3;
+	private final Text title = new Text();
+	private final Text closeGlyph = new Text("✕");
+	private @Nullable Node graphic;
+
+	/**
+	 * @param dockable
+	 * 		Dockable to wrap.
+	 * @param parentPane
+	 * 		Parent header pane.
+	 */
+	public CompactHeader(Dockable dockable, HeaderPane parentPane) {
+		super(dockable, parentPane, false);
+
+		title.getStyleClass().add("header-title");
+		title.textProperty().bind(titleProperty());
+		title.setRotate(switch (getSide()) {
+			case LEFT -> -90;
+			case RIGHT -> 90;
+			case null, default -> 0;
+		});
+		closeGlyph.getStyleClass().add("close-glyph");
+		closeGlyph.setMouseTransparent(true);
+		closeGlyph.visibleProperty().bind(closableProperty());
+		closeGlyph.managedProperty().bind(closableProperty());
+		getChildren().addAll(title, closeGlyph);
+
+		graphicProperty().addListener((ob, old, cur) -> setGraphic(cur));
+		setGraphic(graphicProperty().get());
+
+		// Closing support, in place of a close button.
+		addEventFilter(MouseEvent.MOUSE_CLICKED, e -> {
+			if (e.getButton() == MouseButton.PRIMARY && isOverCloseGlyph(e.getX(), e.getY())) {
+				e.consume();
+				getParentPane().getContainer().closeDockable(dockable);
+			}
+		});
+	}
+
+	private void setGraphic(@Nullable Node graphic) {
+		if (this.graphic != null)
+			getChildren().remove(this.graphic);
+		this.graphic = graphic;
+		if (graphic != null)
+			getChildren().add(0, graphic);
+		requestLayout();
+	}
+
+	/**
+	 * @param x
+	 * 		Local x coordinate.
+	 * @param y
+	 * 		Local y coordinate.
+	 *
+	 * @return {@code true} when the coordinate is on the close glyph, or just around it.
+	 */
+	private boolean isOverCloseGlyph(double x, double y) {
+		if (!closableProperty().get())
+			return false;
+		Bounds bounds = closeGlyph.getBoundsInParent();
+		return x >= bounds.getMinX() - CLOSE_SLACK && x <= bounds.getMaxX() + CLOSE_SLACK
+				&& y >= bounds.getMinY() - CLOSE_SLACK && y <= bounds.getMaxY() + CLOSE_SLACK;
+	}
+
+	@Override
+	protected double computePrefWidth(double height) {
+		double length = length();
+		double thickness = thickness();
+		return snappedLeftInset() + snappedRightInset() + PADDING.getLeft() + PADDING.getRight()
+				+ (isVertical() ? thickness : length);
+	}
+
+	@Override
+	protected double computePrefHeight(double width) {
+		double length = length();
+		double thickness = thickness();
+		return snappedTopInset() + snappedBottomInset() + PADDING.getTop() + PADDING.getBottom()
+				+ (isVertical() ? length : thickness);
+	}
+
+	@Override
+	protected double computeMinWidth(double height) {
+		return computePrefWidth(height);
+	}
+
+	@Override
+	protected double computeMinHeight(double width) {
+		return computePrefHeight(width);
+	}
+
+	@Override
+	protected void layoutChildren() {
+		boolean vertical = isVertical();
+		double left = snappedLeftInset() + PADDING.getLeft();
+		double top = snappedTopInset() + PADDING.getTop();
+		double crossCenter = vertical ?
+				left + (getWidth() - left - snappedRightInset() - PADDING.getRight()) / 2 :
+				top + (getHeight() - top - snappedBottomInset() - PADDING.getBottom()) / 2;
+
+		// Place items along the main axis, centering each on the cross axis. Matches the order of the default header.
+		double offset = vertical ? top : left;
+		@Nullable Node[] order = getSide() == Side.LEFT ?
+				new Node[]{title, graphic, closeGlyph} :
+				new Node[]{graphic, title, closeGlyph};
+		for (@Nullable Node node : order) {
+			if (node == null || !node.isManaged())
+				continue;
+			double extent = extent(node, vertical);
+			double mainCenter = offset + extent / 2;
+			if (vertical)
+				center(node, crossCenter, mainCenter);
+			else
+				center(node, mainCenter, crossCenter);
+			offset += extent + GAP;
+		}
+	}
+
+	/**
+	 * Positions the node so that its center is at the given point. As nodes rotate about their center,
+	 * this also places the rotated title correctly.
+	 */
+	private void center(Node node, double x, double y) {
+		if (node.isResizable())
+			node.autosize();
+		Bounds bounds = node.getLayoutBounds();
+		node.setLayoutX(snapPositionX(x - bounds.getMinX() - bounds.getWidth() / 2));
+		node.setLayoutY(snapPositionY(y - bounds.getMinY() - bounds.getHeight() / 2));
+	}
+
+	/**
+	 * @return Total size of the displayed items along the header's main axis.
+	 */
+	private double length() {
+		boolean vertical = isVertical();
+		double length = 0;
+		int items = 0;
+		for (@Nullable Node node : new Node[]{graphic, title, closeGlyph}) {
+			if (node == null || !node.isManaged())
+				continue;
+			length += extent(node, vertical);
+			items++;
+		}
+		return length + Math.max(0, items - 1) * GAP;
+	}
+
+	/**
+	 * @return Largest size of the displayed items across the header's main axis.
+	 */
+	private double thickness() {
+		boolean vertical = isVertical();
+		double thickness = 0;
+		for (@Nullable Node node : new Node[]{graphic, title, closeGlyph}) {
+			if (node == null || !node.isManaged())
+				continue;
+			thickness = Math.max(thickness, extent(node, !vertical));
+		}
+		return thickness;
+	}
+
+	/**
+	 * @param node
+	 * 		Displayed item.
+	 * @param vertical
+	 *        {@code true} for the vertical extent, {@code false} for the horizontal extent.
+	 *
+	 * @return Size of the item on screen, accounting for the rotated title.
+	 */
+	private double extent(Node node, boolean vertical) {
+		double width;
+		double height;
+		if (node.isResizable()) {
+			width = node.prefWidth(-1);
+			height = node.prefHeight(-1);
+		} else {
+			Bounds bounds = node.getLayoutBounds();
+			width = bounds.getWidth();
+			height = bounds.getHeight();
+		}
+		if (node == title && isVertical()) {
+			double swap = width;
+			width = height;
+			height = swap;
+		}
+		return vertical ? height : width;
+	}
+
+	private boolean isVertical() {
+		Side side = getSide();
+		return side == Side.LEFT || side == Side.RIGHT;
+	}
+}
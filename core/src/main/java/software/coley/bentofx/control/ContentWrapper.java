@@ -1,10 +1,19 @@
 package software.coley.bentofx.control;
 
 import javafx.geometry.Orientation;
+import javafx.geometry.Rectangle2D;
 import javafx.geometry.Side;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
 import javafx.scene.input.Dragboard;
 import javafx.scene.input.TransferMode;
 import javafx.scene.layout.BorderPane;
+import javafx.scene.transform.Transform;
+import javafx.stage.Window;
+import org.jspecify.annotations.Nullable;
 import software.coley.bentofx.Bento;
 import software.coley.bentofx.dockable.Dockable;
 import software.coley.bentofx.layout.container.DockContainerBranch;
@@ -22,6 +31,12 @@
  * @author Matt Coley
  */
 public class ContentWrapper extends BorderPane {
+	private @Nullable ImageView frozenView;
+	private @Nullable Node frozenNode;
+	private FrozenContentMode frozenMode = FrozenContentMode.SCALE;
+	private double frozenScaleX = 1;
+	private double frozenScaleY = 1;
+
 	/**
 	 * @param container
 	 * 		Parent container.
@@ -33,6 +48,97 @@ public ContentWrapper(DockContainerLeaf container) {
 		setupDragDrop(container);
 	}
 
+	/**
+	 * Replaces the displayed content with a snapshot image of it, so that resizing this wrapper does not lay out
+	 * the real content. The real content is hidden and excluded from layout until {@link #thawContent() thawed}.
+	 *
+	 * @param mode
+	 * 		How the snapshot is displayed as this wrapper is resized.
+	 *
+	 * @return {@code true} when the content was frozen. {@code false} if there is no content, it has not been laid out,
+	 * or it is already frozen.
+	 */
+	public boolean freezeContent(FrozenContentMode mode) {
+		Node center = getCenter();
+		if (frozenView != null || center == null || center.getLayoutBounds().isEmpty())
+			return false;
+
+		// Snapshot at the output scale of the window, so that the image is not blurry on high DPI displays.
+		Scene scene = getScene();
+		Window window = scene == null ? null : scene.getWindow();
+		double scaleX = window == null ? 1 : window.getOutputScaleX();
+		double scaleY = window == null ? 1 : window.getOutputScaleY();
+		SnapshotParameters parameters = new SnapshotParameters();
+		parameters.setTransform(Transform.scale(scaleX, scaleY));
+		Image image = center.snapshot(parameters, null);
+
+		ImageView view = new ImageView(image);
+		view.setFitWidth(image.getWidth() / scaleX);
+		view.setFitHeight(image.getHeight() / scaleY);
+		view.setManaged(false);
+		view.setMouseTransparent(true);
+		view.setLayoutX(center.getLayoutX());
+		view.setLayoutY(center.getLayoutY());
+
+		// Unmanaged children are not sized by the border-pane, so the real content keeps its current layout.
+		center.setManaged(false);
+		center.setVisible(false);
+		getChildren().add(view);
+		frozenView = view;
+		frozenNode = center;
+		frozenMode = mode;
+		frozenScaleX = scaleX;
+		frozenScaleY = scaleY;
+		requestLayout();
+		return true;
+	}
+
+	/**
+	 * Restores the real content replaced by {@link #freezeContent(FrozenContentMode)}, which is then laid out once
+	 * at the current size of this wrapper.
+	 */
+	public void thawContent() {
+		ImageView view = frozenView;
+		Node node = frozenNode;
+		if (view == null || node == null)
+			return;
+		frozenView = null;
+		frozenNode = null;
+		getChildren().remove(view);
+		node.setManaged(true);
+		node.setVisible(true);
+		requestLayout();
+	}
+
+	/**
+	 * @return {@code true} when the content is currently replaced by a snapshot.
+	 */
+	public boolean isContentFrozen() {
+		return frozenView != null;
+	}
+
+	@Override
+	protected void layoutChildren() {
+		super.layoutChildren();
+
+		ImageView view = frozenView;
+		if (view != null) {
+			double width = Math.max(0, getWidth() - view.getLayoutX() - snappedRightInset());
+			double height = Math.max(0, getHeight() - view.getLayoutY() - snappedBottomInset());
+			if (frozenMode == FrozenContentMode.SCALE) {
+				view.setFitWidth(width);
+				view.setFitHeight(height);
+			} else {
+				// The viewport is in image pixels, which are scaled by the output scale the snapshot was taken at.
+				double viewportWidth = Math.min(width * frozenScaleX, view.getImage().getWidth());
+				double viewportHeight = Math.min(height * frozenScaleY, view.getImage().getHeight());
+				view.setViewport(new Rectangle2D(0, 0, viewportWidth, viewportHeight));
+				view.setFitWidth(viewportWidth / frozenScaleX);
+				view.setFitHeight(viewportHeight / frozenScaleY);
+			}
+		}
+	}
+
 	protected void setupDragDrop(DockContainerLeaf container) {
 		Bento bento = container.getBento();
 		setOnDragOver(e -> {
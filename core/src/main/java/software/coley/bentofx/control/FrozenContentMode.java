@@ -0,0 +1,14 @@
+package software.coley.bentofx.control;
+
+/**
+ * Modes for displaying the snapshot stand-in of {@link ContentWrapper#freezeContent(FrozenContentMode) frozen content}
+ * as the wrapper is resized.
+ *
+ * @author Matt Coley
+ */
+public enum FrozenContentMode {
+	/** The snapshot is stretched to fill the wrapper. */
+	SCALE,
+	/** The snapshot is shown at its original size, clipped to the wrapper. */
+	CLIP
+}
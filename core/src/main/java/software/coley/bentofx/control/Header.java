@@ -34,6 +34,7 @@
 import org.jspecify.annotations.Nullable;
 import software.coley.bentofx.Bento;
 import software.coley.bentofx.dockable.Dockable;
+import software.coley.bentofx.jfr.DragGestureEvent;
 import software.coley.bentofx.layout.container.DockContainerLeaf;
 import software.coley.bentofx.path.DockablePath;
 import software.coley.bentofx.util.BentoUtils;
@@ -59,17 +60,14 @@ public class Header extends Region {
 	private final BooleanProperty closableProperty = new SimpleBooleanProperty();
 	private final ObjectProperty<@Nullable Side> sideProperty = new SimpleObjectProperty<>();
 	private final ObjectProperty<Tooltip> tooltipProperty = new SimpleObjectProperty<>();
-	private final GridPane grid = new GridPane();
-	private final Text label = new Text();
-	private final Pane graphicWrapper = new Pane();
-	private final Pane closeWrapper = new Pane();
-	private final Line insertionIndicator = new Line();
-	private final StackPane wrapper = new StackPane();
+	private final @Nullable Display display;
 	private final HeaderPane parentPane;
 	private final Dockable dockable;
+	private @Nullable Line insertionIndicator;
 	private @Nullable Header insertionPreviewSource;
 	private @Nullable Boolean insertionAfter;
 	private double insertionMidpoint = Double.NaN;
+	private @Nullable DragGestureEvent dragGesture;
 
 	/**
 	 * @param dockable
@@ -78,14 +76,23 @@ public class Header extends Region {
 	 * 		Parent header pane.
 	 */
 	public Header(Dockable dockable, HeaderPane parentPane) {
+		this(dockable, parentPane, true);
+	}
+
+	/**
+	 * @param dockable
+	 * 		Dockable to wrap.
+	 * @param parentPane
+	 * 		Parent header pane.
+	 * @param defaultDisplay
+	 *        {@code true} to build the default title, graphic and close button display.
+	 *        {@code false} for subclasses which display the header themselves, see {@link CompactHeader}.
+	 */
+	protected Header(Dockable dockable, HeaderPane parentPane, boolean defaultDisplay) {
 		this.parentPane = parentPane;
 		this.dockable = dockable;
 
 		getStyleClass().add("header");
-		insertionIndicator.getStyleClass().add("dock-insertion-indicator");
-		insertionIndicator.setVisible(false);
-		insertionIndicator.setManaged(false);
-		insertionIndicator.setMouseTransparent(true);
 
 		// Setup current side/orientation state
 		sideProperty.set(parentPane.getContainer().getSide());
@@ -156,8 +163,7 @@ public Header(Dockable dockable, HeaderPane parentPane) {
 		closableProperty.bind(dockable.closableProperty());
 		titleProperty.bind(dockable.titleProperty());
 		tooltipProperty.bind(dockable.tooltipProperty());
-		graphicProperty.bind(dockable.iconFactoryProperty().map(ic -> ic.build(dockable)));
-		label.textProperty().bind(titleProperty);
+		graphicProperty.bind(dockable.iconFactoryProperty().map(ic -> dockable.getBento().iconCache().build(dockable, ic)));
 
 		// Hover support
 		addEventFilter(MouseEvent.MOUSE_ENTERED, e -> {
@@ -188,21 +194,16 @@ public Header(Dockable dockable, HeaderPane parentPane) {
 		setOnMouseClicked(e -> dockable.getBento().getClickBehavior().onMouseClick(parentPane.getContainer(), dockable, this, e));
 
 		// Layout
-		Label graphicHolder = new Label();
-		graphicHolder.managedProperty().bind(graphicProperty.isNotNull()); // Only take up space when there is a graphic to show
-		graphicHolder.graphicProperty().bind(graphicProperty);
-		graphicWrapper.getChildren().add(graphicHolder);
-		sideProperty.addListener((ob, old, cur) -> recomputeLayout(cur));
-		closableProperty.addListener((ob, old, cur) -> recomputeLayout(getSide()));
-		grid.setHgap(6);
-		grid.setVgap(6);
-		grid.setPadding(new Insets(6));
-		grid.setAlignment(Pos.CENTER);
-		wrapper.getChildren().addAll(grid, insertionIndicator);
-		wrapper.widthProperty().addListener((ob, old, cur) -> updateInsertionIndicator());
-		wrapper.heightProperty().addListener((ob, old, cur) -> updateInsertionIndicator());
-		getChildren().add(wrapper);
-		recomputeLayout(getSide());
+		if (defaultDisplay) {
+			Display defaults = new Display();
+			sideProperty.addListener((ob, old, cur) -> defaults.recomputeLayout(cur));
+			closableProperty.addListener((ob, old, cur) -> defaults.recomputeLayout(getSide()));
+			getChildren().add(defaults.wrapper);
+			defaults.recomputeLayout(getSide());
+			display = defaults;
+		} else {
+			display = null;
+		}
 	}
 
 	/**
@@ -214,11 +215,13 @@ public Header withDragDrop() {
 		Bento bento = dockable.getBento();
 
 		// Closing support
-		Button closeButton = new Button("✕");
-		closeButton.setFocusTraversable(false);
-		closeButton.getStyleClass().add("close-button");
-		closeButton.setOnAction(e -> parentPane.getContainer().closeDockable(dockable));
-		closeWrapper.getChildren().add(closeButton);
+		if (display != null) {
+			Button closeButton = new Button("✕");
+			closeButton.setFocusTraversable(false);
+			closeButton.getStyleClass().add("close-button");
+			closeButton.setOnAction(e -> parentPane.getContainer().closeDockable(dockable));
+			display.closeWrapper.getChildren().add(closeButton);
+		}
 		setOnMouseReleased(e -> {
 			// Middle release --> close dockable
 			if (e.getButton() == MouseButton.MIDDLE && getBoundsInLocal().contains(e.getX(), e.getY()))
@@ -233,6 +236,15 @@ public Header withDragDrop() {
 			if (e.getButton() == MouseButton.PRIMARY) {
 				e.consume();
 
+				DragGestureEvent gesture = new DragGestureEvent();
+				gesture.begin();
+				if (gesture.isEnabled()) {
+					DockContainerLeaf sourceContainer = dockable.getContainer();
+					gesture.dockable = dockable.getIdentifier();
+					gesture.sourceContainer = sourceContainer == null ? null : sourceContainer.getIdentifier();
+					dragGesture = gesture;
+				}
+
 				Image image = snapshot(null, null);
 				Dragboard dragboard = startDragAndDrop(TransferMode.MOVE);
 				dragboard.setContent(DragUtils.content(dockable));
@@ -359,69 +371,60 @@ public Header withDragDrop() {
 		// A: Because there is a one pulse delay before the header receives its new scene value when moving.
 		// We fire off too early with this, so by operating on the scene property (for when it gets set the next pulse)
 		// then everything is back to working as intended.
-		setOnDragDone(e -> BentoUtils.scheduleWhenShown(this, h -> {
-			// Drag source must not be a drag-drop-stage with the source header as the only item.
-			// We don't want to close the window just to open a new one with the same content, that would be dumb.
-			Scene scene = getScene();
-			if (scene.getWindow() instanceof DragDropStage && BentoUtils.getChildren(scene.getRoot(), Header.class).size() == 1)
-				return;
-
-			// Drag completion event must not have a drop target specified.
+		setOnDragDone(e -> {
+			// Drops onto other headers/containers are complete now. The header may have been moved to another
+			// container, in which case this instance will never be shown again to run the scheduled action below.
 			if (DragUtils.extractDropTargetType(e.getDragboard()) != null)
-				return;
-
-			// Handle opening in a new window when drag completes without a found target.
-			DockContainerLeaf parentContainer = dockable.getContainer();
-			if (parentContainer == null)
-				return;
-			Scene currentScene = parentContainer.getScene();
-			if (e.getGestureTarget() == null
-					&& dockable.isCanBeDroppedToNewWindow()
-					&& parentContainer.removeDockable(dockable)) {
-				// Open a stage with the new dockable as its primary content.
-				Stage stage = bento.stageBuilding().newStageForDockable(currentScene, parentContainer, dockable);
-				stage.show();
-				stage.toFront();
-				stage.requestFocus();
-				DragUtils.completeDnd(e, dockable, DragDropTarget.EXTERNAL);
-			}
-		}));
+				completeDragGesture(e);
+
+			BentoUtils.scheduleWhenShown(this, h -> {
+				try {
+					// Drag source must not be a drag-drop-stage with the source header as the only item.
+					// We don't want to close the window just to open a new one with the same content, that would be dumb.
+					Scene scene = getScene();
+					if (scene.getWindow() instanceof DragDropStage && BentoUtils.getChildren(scene.getRoot(), Header.class).size() == 1)
+						return;
+
+					// Drag completion event must not have a drop target specified.
+					if (DragUtils.extractDropTargetType(e.getDragboard()) != null)
+						return;
+
+					// Handle opening in a new window when drag completes without a found target.
+					DockContainerLeaf parentContainer = dockable.getContainer();
+					if (parentContainer == null)
+						return;
+					Scene currentScene = parentContainer.getScene();
+					if (e.getGestureTarget() == null
+							&& dockable.isCanBeDroppedToNewWindow()
+							&& parentContainer.removeDockable(dockable)) {
+						// Open a stage with the new dockable as its primary content.
+						Stage stage = bento.stageBuilding().newStageForDockable(currentScene, parentContainer, dockable);
+						stage.show();
+						stage.toFront();
+						stage.requestFocus();
+						DragUtils.completeDnd(e, dockable, DragDropTarget.EXTERNAL);
+					}
+				} finally {
+					completeDragGesture(e);
+				}
+			});
+		});
 
 		return this;
 	}
 
 	/**
-	 * Recompute the layout of the header based on the given side/orientation.
+	 * Completes the flight recorder event for this header's drag gesture, if one is being recorded.
 	 *
-	 * @param side
-	 * 		Side/orientation to use for layout.
+	 * @param event
+	 * 		Drag completion event.
 	 */
-	private void recomputeLayout(@Nullable Side side) {
-		grid.getChildren().clear();
-		switch (side) {
-			case TOP, BOTTOM -> {
-				label.setRotate(0);
-				grid.add(graphicWrapper, 0, 0);
-				grid.add(label, 1, 0);
-				if (dockable.closableProperty().get()) grid.add(closeWrapper, 2, 0);
-			}
-			case LEFT -> {
-				label.setRotate(-90);
-				grid.add(new Group(label), 0, 0);
-				grid.add(graphicWrapper, 0, 1);
-				if (dockable.closableProperty().get()) grid.add(closeWrapper, 0, 2);
-			}
-			case RIGHT -> {
-				label.setRotate(90);
-				grid.add(graphicWrapper, 0, 0);
-				grid.add(new Group(label), 0, 1);
-				if (dockable.closableProperty().get()) grid.add(closeWrapper, 0, 2);
-			}
-			case null -> {
-				// When there is no side, the grid does not get updated
-			}
+	private void completeDragGesture(DragEvent event) {
+		DragGestureEvent gesture = dragGesture;
+		if (gesture != null) {
+			dragGesture = null;
+			gesture.complete(DragUtils.extractDropTargetType(event.getDragboard()));
 		}
-		requestLayout();
 	}
 
 	/**
@@ -438,17 +441,51 @@ private void enableInsertionIndicator(Header header, boolean after) {
 
 		insertionPreviewSource = header;
 		insertionAfter = after;
-		insertionIndicator.setVisible(true);
+		getInsertionIndicator().setVisible(true);
 		updateInsertionIndicator();
 	}
 
+	/**
+	 * Most headers are never the target of a drag, so the indicator is only created once it is first needed.
+	 *
+	 * @return Insertion indicator, created on first use.
+	 */
+	private Line getInsertionIndicator() {
+		Line indicator = insertionIndicator;
+		if (indicator == null) {
+			indicator = new Line();
+			indicator.getStyleClass().add("dock-insertion-indicator");
+			indicator.setVisible(false);
+			indicator.setManaged(false);
+			indicator.setMouseTransparent(true);
+			insertionIndicator = indicator;
+
+			Region host = getInsertionIndicatorHost();
+			host.widthProperty().addListener((ob, old, cur) -> updateInsertionIndicator());
+			host.heightProperty().addListener((ob, old, cur) -> updateInsertionIndicator());
+			if (display != null)
+				display.wrapper.getChildren().add(indicator);
+			else
+				getChildren().add(indicator);
+		}
+		return indicator;
+	}
+
+	/**
+	 * @return Region the insertion indicator is placed within.
+	 */
+	private Region getInsertionIndicatorHost() {
+		return display != null ? display.wrapper : this;
+	}
+
 	/**
 	 * Clears the insertion indicator.
 	 *
 	 * @see #enableInsertionIndicator(Header, boolean)
 	 */
 	private void disableInsertionIndicator() {
-		insertionIndicator.setVisible(false);
+		if (insertionIndicator != null)
+			insertionIndicator.setVisible(false);
 		insertionPreviewSource = null;
 		insertionAfter = null;
 		insertionMidpoint = Double.NaN;
@@ -460,22 +497,24 @@ private void disableInsertionIndicator() {
 	 */
 	private void updateInsertionIndicator() {
 		// Skip if the indicator is not visible or if we don't know where to put it.
-		if (!insertionIndicator.isVisible() || insertionAfter == null)
+		Line insertionIndicator = this.insertionIndicator;
+		if (insertionIndicator == null || !insertionIndicator.isVisible() || insertionAfter == null)
 			return;
 
 		// For horizontal headers, the indicator is a vertical line at the left or right edge of the header.
 		// For vertical headers, the indicator is a horizontal line at the top or bottom edge of the header.
 		Orientation orientation = BentoUtils.sideToOrientation(getSide());
+		Region host = getInsertionIndicatorHost();
 		if (orientation == HORIZONTAL) {
-			double x = insertionAfter ? Math.max(0, wrapper.getWidth() - 1) : 1;
+			double x = insertionAfter ? Math.max(0, host.getWidth() - 1) : 1;
 			insertionIndicator.setStartX(x);
 			insertionIndicator.setEndX(x);
 			insertionIndicator.setStartY(0);
-			insertionIndicator.setEndY(wrapper.getHeight());
+			insertionIndicator.setEndY(host.getHeight());
 		} else {
-			double y = insertionAfter ? Math.max(0, wrapper.getHeight() - 1) : 1;
+			double y = insertionAfter ? Math.max(0, host.getHeight() - 1) : 1;
 			insertionIndicator.setStartX(0);
-			insertionIndicator.setEndX(wrapper.getWidth());
+			insertionIndicator.setEndX(host.getWidth());
 			insertionIndicator.setStartY(y);
 			insertionIndicator.setEndY(y);
 		}
@@ -528,10 +567,38 @@ public Dockable getDockable() {
 		return dockable;
 	}
 
+	/**
+	 * @return Dockable title property.
+	 */
+	protected StringProperty titleProperty() {
+		return titleProperty;
+	}
+
+	/**
+	 * @return Dockable icon property.
+	 */
+	protected ObjectProperty<Node> graphicProperty() {
+		return graphicProperty;
+	}
+
+	/**
+	 * @return Dockable closable property.
+	 */
+	protected BooleanProperty closableProperty() {
+		return closableProperty;
+	}
+
+	/**
+	 * @return Parent header pane.
+	 */
+	protected HeaderPane getParentPane() {
+		return parentPane;
+	}
+
 	/**
 	 * @return Side of the {@link #parentPane} at the time of construction.
 	 */
-	private @Nullable Side getSide() {
+	protected @Nullable Side getSide() {
 		return sideProperty.get();
 	}
 
@@ -539,4 +606,67 @@ public Dockable getDockable() {
 	public String toString() {
 		return "Header:" + titleProperty.get();
 	}
+
+	/**
+	 * Default display of the title, graphic and close button, laid out in a grid.
+	 */
+	private class Display {
+		private final GridPane grid = new GridPane();
+		private final Text label = new Text();
+		private final Group labelGroup = new Group();
+		private final Pane graphicWrapper = new Pane();
+		private final Pane closeWrapper = new Pane();
+		private final StackPane wrapper = new StackPane();
+
+		private Display() {
+			label.textProperty().bind(titleProperty);
+
+			Label graphicHolder = new Label();
+			graphicHolder.managedProperty().bind(graphicProperty.isNotNull()); // Only take up space when there is a graphic to show
+			graphicHolder.graphicProperty().bind(graphicProperty);
+			graphicWrapper.getChildren().add(graphicHolder);
+			grid.setHgap(6);
+			grid.setVgap(6);
+			grid.setPadding(new Insets(6));
+			grid.setAlignment(Pos.CENTER);
+			wrapper.getChildren().add(grid);
+		}
+
+		/**
+		 * Recompute the layout of the header based on the given side/orientation.
+		 *
+		 * @param side
+		 * 		Side/orientation to use for layout.
+		 */
+		private void recomputeLayout(@Nullable Side side) {
+			grid.getChildren().clear();
+			labelGroup.getChildren().clear();
+			switch (side) {
+				case TOP, BOTTOM -> {
+					label.setRotate(0);
+					grid.add(graphicWrapper, 0, 0);
+					grid.add(label, 1, 0);
+					if (dockable.closableProperty().get()) grid.add(closeWrapper, 2, 0);
+				}
+				case LEFT -> {
+					label.setRotate(-90);
+					labelGroup.getChildren().add(label);
+					grid.add(labelGroup, 0, 0);
+					grid.add(graphicWrapper, 0, 1);
+					if (dockable.closableProperty().get()) grid.add(closeWrapper, 0, 2);
+				}
+				case RIGHT -> {
+					label.setRotate(90);
+					labelGroup.getChildren().add(label);
+					grid.add(graphicWrapper, 0, 0);
+					grid.add(labelGroup, 0, 1);
+					if (dockable.closableProperty().get()) grid.add(closeWrapper, 0, 2);
+				}
+				case null -> {
+					// When there is no side, the grid does not get updated
+				}
+			}
+			requestLayout();
+		}
+	}
 }
@@ -21,6 +21,7 @@
 import software.coley.bentofx.dockable.Dockable;
 import software.coley.bentofx.layout.container.DockContainerLeaf;
 import software.coley.bentofx.layout.container.DockContainerLeafMenuFactory;
+import software.coley.bentofx.metrics.BentoMetrics;
 import software.coley.bentofx.util.BentoUtils;
 
 import static software.coley.bentofx.util.BentoStates.*;
@@ -127,9 +128,20 @@ public HeaderPane(DockContainerLeaf container) {
 		BooleanBinding notCollapsed = container.collapsedProperty().not();
 		contentWrapper.visibleProperty().bind(notCollapsed);
 		contentWrapper.managedProperty().bind(notCollapsed);
+		container.collapsedProperty().addListener((ob, old, cur) -> updateContentAttachment());
+		container.detachContentWhenCollapsedProperty().addListener((ob, old, cur) -> updateContentAttachment());
 		setCenter(contentWrapper);
 	}
 
+	/**
+	 * Removes the content wrapper from the scene graph while the container is collapsed,
+	 * if the container is set to {@link DockContainerLeaf#isDetachContentWhenCollapsed() detach its content}.
+	 */
+	private void updateContentAttachment() {
+		boolean detach = container.collapsedProperty().get() && container.isDetachContentWhenCollapsed();
+		setCenter(detach ? null : contentWrapper);
+	}
+
 	/**
 	 * Restore focus to the last focused node in the current dockable's content.
 	 *
@@ -360,7 +372,7 @@ protected Button createDockableListButton() {
 			menu.getItems().addAll(container.getDockables().stream().map(d -> {
 				MenuItem item = new MenuItem();
 				item.textProperty().bind(d.titleProperty());
-				item.graphicProperty().bind(d.iconFactoryProperty().map(ic -> ic.build(d)));
+				item.graphicProperty().bind(d.iconFactoryProperty().map(ic -> getBento().iconCache().build(d, ic)));
 				item.setOnAction(ignored -> container.selectDockable(d));
 				return item;
 			}).toList());
@@ -393,7 +405,14 @@ protected Button createContainerConfigButton() {
 	}
 
 	private Header createHeader(Dockable dockable) {
-		return getBento().controlsBuilding().newHeader(dockable, this);
+		BentoMetrics metrics = getBento().metrics();
+		if (!metrics.isEnabled())
+			return getBento().controlsBuilding().newHeader(dockable, this);
+
+		long start = System.nanoTime();
+		Header header = getBento().controlsBuilding().newHeader(dockable, this);
+		metrics.recordTime(BentoMetrics.HEADER_CREATE, System.nanoTime() - start);
+		return header;
 	}
 
 	/**
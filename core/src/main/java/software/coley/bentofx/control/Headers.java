@@ -10,6 +10,7 @@
 import javafx.scene.shape.Rectangle;
 import software.coley.bentofx.dockable.Dockable;
 import software.coley.bentofx.layout.container.DockContainerLeaf;
+import software.coley.bentofx.metrics.BentoMetrics;
 import software.coley.bentofx.path.DockablePath;
 import software.coley.bentofx.util.DragDropTarget;
 import software.coley.bentofx.util.DragUtils;
@@ -22,6 +23,8 @@
  * @author Matt Coley
  */
 public class Headers extends LinearItemPane {
+	private final DockContainerLeaf container;
+
 	/**
 	 * @param container
 	 * 		Parent container.
@@ -33,6 +36,8 @@ public class Headers extends LinearItemPane {
 	public Headers(DockContainerLeaf container, Orientation orientation, Side side) {
 		super(orientation);
 
+		this.container = container;
+
 		// Create side-specific header region class.
 		getStyleClass().add("header-region");
 		switch (side) {
@@ -64,6 +69,11 @@ public Headers(DockContainerLeaf container, Orientation orientation, Side side)
 		setupDragDrop(container);
 	}
 
+	@Override
+	protected BentoMetrics getMetrics() {
+		return container.getBento().metrics();
+	}
+
 	protected void setupMinSizeTracking() {
 		getChildren().addListener((ListChangeListener<Node>) c -> {
 			Orientation orientation = getOrientation();
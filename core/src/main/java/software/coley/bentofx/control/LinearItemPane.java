@@ -14,6 +14,7 @@
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Pane;
 import javafx.scene.layout.VBox;
+import software.coley.bentofx.metrics.BentoMetrics;
 
 /**
  * A basic pane that lays out children in a single line.
@@ -85,13 +86,27 @@ public void add(Node node) {
 		getChildren().add(node);
 	}
 
+	/**
+	 * This pane has no association with a bento instance, so by default layout passes are not measured.
+	 * Subtypes that do have an association should provide the instance's metrics.
+	 *
+	 * @return Instrumentation to record layout passes with.
+	 */
+	protected BentoMetrics getMetrics() {
+		return BentoMetrics.NONE;
+	}
+
 	@Override
 	protected void layoutChildren() {
+		BentoMetrics metrics = getMetrics();
+		long start = metrics.isEnabled() ? System.nanoTime() : 0;
 		if (orientation == Orientation.HORIZONTAL) {
 			layoutHorizontal();
 		} else {
 			layoutVertical();
 		}
+		if (metrics.isEnabled())
+			metrics.recordTime(BentoMetrics.LINEAR_LAYOUT, getClass(), System.nanoTime() - start);
 	}
 
 	protected void layoutHorizontal() {
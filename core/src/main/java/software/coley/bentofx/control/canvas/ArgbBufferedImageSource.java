@@ -57,8 +57,15 @@ public int getArgb(int x, int y) {
 	@Override
 	public int[] getArgb() {
 		// We will likely be using this a bit, so it makes sense to cache the result.
-		fullArgbCache = ArgbSource.super.getArgb();
-		return fullArgbCache;
+		int[] argb = fullArgbCache;
+		if (argb == null)
+			fullArgbCache = argb = ArgbSource.super.getArgb();
+		return argb;
+	}
+
+	@Override
+	public int getStamp() {
+		return System.identityHashCode(image);
 	}
 
 	@Override
@@ -4,7 +4,6 @@
 import javafx.scene.image.PixelFormat;
 import org.jspecify.annotations.Nullable;
 
-import java.nio.IntBuffer;
 import java.util.Arrays;
 
 /**
@@ -49,9 +48,9 @@ public int getArgb(int x, int y) {
 	@Override
 	public int @Nullable[] getArgb(int x, int y, int width, int height) {
 		try {
-			IntBuffer buffer = IntBuffer.allocate(width * height);
-			image.getPixelReader().getPixels(x, y, width, height, PixelFormat.getIntArgbInstance(), buffer, width);
-			return buffer.array();
+			int[] argb = new int[width * height];
+			image.getPixelReader().getPixels(x, y, width, height, PixelFormat.getIntArgbInstance(), argb, 0, width);
+			return argb;
 		} catch (Throwable t) {
 			// Thrown when coordinates are out of bounds.
 			return null;
@@ -61,8 +60,27 @@ public int getArgb(int x, int y) {
 	@Override
 	public int[] getArgb() {
 		// We will likely be using this a bit, so it makes sense to cache the result.
-		fullArgbCache = ArgbSource.super.getArgb();
-		return fullArgbCache;
+		// Images still loading in the background are not cached, as their content is incomplete.
+		int[] argb = fullArgbCache;
+		if (argb == null) {
+			argb = ArgbSource.super.getArgb();
+			if (isLoaded())
+				fullArgbCache = argb;
+		}
+		return argb;
+	}
+
+	/**
+	 * @return {@code true} when the image has finished loading without error, so its content will no longer change.
+	 */
+	private boolean isLoaded() {
+		return image.getProgress() >= 1 && !image.isError();
+	}
+
+	@Override
+	public int getStamp() {
+		// Images loaded in the background have their content change as loading progresses.
+		return 31 * System.identityHashCode(image) + Double.hashCode(image.getProgress());
 	}
 
 	@Override
@@ -76,8 +94,11 @@ public boolean equals(Object o) {
 
 	@Override
 	public int hashCode() {
-		if (hash == 0)
-			hash = Arrays.hashCode(getArgb());
-		return hash;
+		if (hash != 0)
+			return hash;
+		int computed = Arrays.hashCode(getArgb());
+		if (isLoaded())
+			hash = computed;
+		return computed;
 	}
 }
@@ -53,4 +53,38 @@ default int[] getArgb() {
 		return Objects.requireNonNull(getArgb(0, 0, getWidth(), getHeight()),
 				"Failed computing ARGB for full image dimensions");
 	}
+
+	/**
+	 * @param x
+	 * 		Image X coordinate.
+	 * @param y
+	 * 		Image X coordinate.
+	 * @param width
+	 * 		Width of image section to grab.
+	 * @param height
+	 * 		Height of image section to grab.
+	 *
+	 * @return View of the ARGB content at coordinates for the given width/height.
+	 * {@code null} when coordinates are out of the image bounds.
+	 */
+	@Nullable
+	default ArgbView getArgbView(int x, int y, int width, int height) {
+		if (x == 0 && y == 0 && width == getWidth() && height == getHeight())
+			return new ArgbView(getArgb(), 0, width, width, height);
+		int[] argb = getArgb(x, y, width, height);
+		if (argb == null)
+			return null;
+		return new ArgbView(argb, 0, width, width, height);
+	}
+
+	/**
+	 * A stamp is used by {@link PixelCanvas} to detect if a draw operation has changed since the last frame.
+	 * Unlike {@link #hashCode()} this should never need to look at the image content. Sources wrapping
+	 * mutable content should yield a new stamp whenever that content changes.
+	 *
+	 * @return Cheap identity or version stamp of this source's content.
+	 */
+	default int getStamp() {
+		return System.identityHashCode(this);
+	}
 }
@@ -0,0 +1,126 @@
+package software.coley.bentofx.control.canvas;
+
+import javafx.scene.image.Image;
+import org.jspecify.annotations.Nullable;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded cache of {@link CachedArgbSource} keyed by {@link Image}.
+ * <p/>
+ * Images are weakly referenced, so an entry is dropped once its image is no longer used elsewhere.
+ * When the cache exceeds its maximum size the least recently used entry is evicted.
+ *
+ * @author Matt Coley
+ */
+public class ArgbSourceCache {
+	private static final int DEFAULT_MAX_ENTRIES = 64;
+	private static final ArgbSourceCache SHARED = new ArgbSourceCache(DEFAULT_MAX_ENTRIES);
+	private final ReferenceQueue<Image> queue = new ReferenceQueue<>();
+	private final Map<ImageKey, CachedArgbSource> cache;
+
+	/**
+	 * @param maxEntries
+	 * 		Maximum number of images to cache.
+	 */
+	public ArgbSourceCache(int maxEntries) {
+		cache = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<ImageKey, CachedArgbSource> eldest) {
+				return size() > maxEntries;
+			}
+		};
+	}
+
+	/**
+	 * @return Cache instance shared across all canvases.
+	 */
+	public static ArgbSourceCache getShared() {
+		return SHARED;
+	}
+
+	/**
+	 * @param image
+	 * 		Image to get a source for.
+	 *
+	 * @return Cached source of the image. Images that have not completed loading are not cached,
+	 * and instead yield a non-cached source wrapping the image.
+	 */
+	public synchronized ArgbSource get(Image image) {
+		expungeStaleEntries();
+
+		// Images still loading in the background do not have their final content yet.
+		if (image.getProgress() < 1 || image.isError())
+			return new ArgbImageSource(image);
+
+		CachedArgbSource source = cache.get(new ImageKey(image, null));
+		if (source == null) {
+			source = new CachedArgbSource(new ArgbImageSource(image));
+			cache.put(new ImageKey(image, queue), source);
+		}
+		return source;
+	}
+
+	/**
+	 * Removes the cached source of an image. This should be called when the content of a {@link javafx.scene.image.WritableImage}
+	 * changes so that the next {@link #get(Image)} yields the new content.
+	 *
+	 * @param image
+	 * 		Image to remove from the cache.
+	 */
+	public synchronized void invalidate(Image image) {
+		cache.remove(new ImageKey(image, null));
+	}
+
+	/**
+	 * Removes all cached sources.
+	 */
+	public synchronized void clear() {
+		cache.clear();
+		while (queue.poll() != null) ;
+	}
+
+	/**
+	 * @return Number of cached sources.
+	 */
+	public synchronized int size() {
+		expungeStaleEntries();
+		return cache.size();
+	}
+
+	private void expungeStaleEntries() {
+		Reference<? extends Image> ref;
+		while ((ref = queue.poll()) != null)
+			cache.remove(ref);
+	}
+
+	/**
+	 * Weak identity key of an image.
+	 */
+	private static class ImageKey extends WeakReference<Image> {
+		private final int hash;
+
+		private ImageKey(Image image, @Nullable ReferenceQueue<Image> queue) {
+			super(image, queue);
+			hash = System.identityHashCode(image);
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) return true;
+			if (!(o instanceof ImageKey other)) return false;
+
+			Image image = get();
+			return image != null && image == other.get();
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+	}
+}
@@ -0,0 +1,43 @@
+package software.coley.bentofx.control.canvas;
+
+/**
+ * A rectangular view into an ARGB {@code int[]} which may be larger than the region it describes.
+ * This allows sub-regions of an image to be read without copying them into a new array.
+ *
+ * @param argb
+ * 		Backing ARGB array. Must not be modified.
+ * @param offset
+ * 		Index of the top-left pixel of the view within the backing array.
+ * @param stride
+ * 		Number of array elements between the starts of two adjacent rows.
+ * @param width
+ * 		Width of the view.
+ * @param height
+ * 		Height of the view.
+ *
+ * @author Matt Coley
+ * @see ArgbSource#getArgbView(int, int, int, int)
+ */
+public record ArgbView(int[] argb, int offset, int stride, int width, int height) {
+	/**
+	 * Validates the view lies within the backing array.
+	 */
+	public ArgbView {
+		if (offset < 0 || width < 0 || height < 0 || stride < width)
+			throw new IllegalArgumentException("Invalid view dimensions");
+		if (height > 0 && width > 0 && offset + (long) (height - 1) * stride + width > argb.length)
+			throw new IllegalArgumentException("View exceeds backing array bounds");
+	}
+
+	/**
+	 * @param x
+	 * 		X coordinate within the view.
+	 * @param y
+	 * 		Y coordinate within the view.
+	 *
+	 * @return ARGB {@code int} at coordinate.
+	 */
+	public int getArgb(int x, int y) {
+		return argb[offset + y * stride + x];
+	}
+}
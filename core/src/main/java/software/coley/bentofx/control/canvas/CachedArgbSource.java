@@ -0,0 +1,77 @@
+package software.coley.bentofx.control.canvas;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * ARGB source that decodes another source once and then serves all requests from a single ARGB array.
+ * Sub-regions are served as zero-copy {@link ArgbView views} into that array.
+ * <p/>
+ * The decoded content is a snapshot, so changes to the original source are not reflected.
+ * The original source is not retained, which allows instances to be held by {@link ArgbSourceCache}
+ * without keeping the original image alive.
+ *
+ * @author Matt Coley
+ * @see ArgbSourceCache
+ */
+public class CachedArgbSource implements ArgbSource {
+	private final int[] argb;
+	private final int width;
+	private final int height;
+
+	/**
+	 * @param source
+	 * 		Source to decode.
+	 */
+	public CachedArgbSource(ArgbSource source) {
+		width = source.getWidth();
+		height = source.getHeight();
+		argb = source.getArgb();
+	}
+
+	@Override
+	public int getWidth() {
+		return width;
+	}
+
+	@Override
+	public int getHeight() {
+		return height;
+	}
+
+	@Override
+	public int getArgb(int x, int y) {
+		if (x < 0 || y < 0 || x >= width || y >= height)
+			return 0;
+		return argb[y * width + x];
+	}
+
+	@Override
+	public int @Nullable [] getArgb(int x, int y, int width, int height) {
+		if (!isInBounds(x, y, width, height))
+			return null;
+		int[] region = new int[width * height];
+		for (int row = 0; row < height; row++)
+			System.arraycopy(argb, (y + row) * this.width + x, region, row * width, width);
+		return region;
+	}
+
+	/**
+	 * @return ARGB {@code int[]} for the full image. This is the shared backing array and must not be modified.
+	 */
+	@Override
+	public int[] getArgb() {
+		return argb;
+	}
+
+	@Nullable
+	@Override
+	public ArgbView getArgbView(int x, int y, int width, int height) {
+		if (!isInBounds(x, y, width, height))
+			return null;
+		return new ArgbView(argb, y * this.width + x, this.width, width, height);
+	}
+
+	private boolean isInBounds(int x, int y, int width, int height) {
+		return x >= 0 && y >= 0 && width >= 0 && height >= 0 && x + width <= this.width && y + height <= this.height;
+	}
+}
@@ -1,14 +1,20 @@
 package software.coley.bentofx.control.canvas;
 
+import javafx.animation.PauseTransition;
 import javafx.scene.canvas.Canvas;
 import javafx.scene.image.ImageView;
 import javafx.scene.image.WritableImage;
 import javafx.scene.layout.Region;
+import javafx.util.Duration;
 import org.jspecify.annotations.Nullable;
+import software.coley.bentofx.jfr.CanvasCommitEvent;
 
 /**
  * This is a very simple alternative to {@link Canvas} that <i>does not</i> keep track of draw operations.
  * In some super niche cases, the default canvas is a memory hog, where this operates on a flat ARGB {@code int[]}.
+ * <p/>
+ * The backing image and buffer are allocated lazily on the first draw operation after the canvas is cleared.
+ * Once cleared and left idle for the {@link #getReleaseDelay() release delay} they are released again.
  *
  * @author Matt Coley
  * @see PixelPainter
@@ -16,10 +22,14 @@
 public class PixelCanvas extends Region {
 	private static final int OP_FILL_RECT = 100;
 	private static final int OP_FILL_IMG = 101;
+	private static final int OP_FILL_IMG_SCALED = 102;
+	private static final int OP_FILL_IMG_NINE_SLICE = 103;
 	private static final int OP_DRAW_RECT = 200;
 	private static final int OP_DRAW_LINE_H = 201;
 	private static final int OP_DRAW_LINE_V = 202;
 	private static final int OP_DRAW_PX = 203;
+	/** Default delay after being cleared before an idle canvas releases its image and buffer. */
+	public static final Duration DEFAULT_RELEASE_DELAY = Duration.seconds(3);
 	/** Pixel painter. */
 	private final PixelPainter<?> pixelPainter;
 	/** Wrapped display. */
@@ -30,6 +40,14 @@ public class PixelCanvas extends Region {
 	private int lastDrawHash;
 	/** Current draw hash. */
 	private int currentDrawHash;
+	/** Number of bytes uploaded to the image by the last commit. */
+	private long lastCommitBytes;
+	/** Flag indicating if any draw operations have occurred since the last clear. */
+	private boolean drawnSinceClear;
+	/** Delay after being cleared before releasing the image and buffer. */
+	private @Nullable Duration releaseDelay = DEFAULT_RELEASE_DELAY;
+	/** Timer for releasing the image and buffer when idle. */
+	private @Nullable PauseTransition releaseTimer;
 
 	/**
 	 * New pixel canvas.
@@ -75,8 +93,6 @@ public PixelCanvas(PixelPainter<?> pixelPainter, int width, int height) {
 
 		view.setFitWidth(width);
 		view.setFitHeight(height);
-
-		reallocate();
 	}
 
 	/**
@@ -95,13 +111,38 @@ public PixelCanvas(int width, int height) {
 	 * Commits any pending state in the canvas buffer to the display.
 	 */
 	public void commit() {
+		lastCommitBytes = 0;
 		if (lastDrawHash == currentDrawHash) return;
 		lastDrawHash = currentDrawHash;
 
+		// Nothing has been drawn, so there is no need to allocate or upload an image.
+		if (!drawnSinceClear) {
+			view.setImage(null);
+			scheduleRelease();
+			return;
+		}
+
+		CanvasCommitEvent commitEvent = new CanvasCommitEvent();
+		commitEvent.begin();
+
 		checkDirty();
 
 		pixelPainter.commit(image.getPixelWriter());
 		view.setImage(image);
+
+		// Both supported pixel formats use 4 bytes per pixel, and the full buffer is uploaded.
+		int width = (int) image.getWidth();
+		int height = (int) image.getHeight();
+		lastCommitBytes = (long) width * height * 4;
+		commitEvent.complete(width, height, lastCommitBytes);
+	}
+
+	/**
+	 * @return Number of bytes uploaded to the display image by the last {@link #commit()}.
+	 * {@code 0} if the last commit was skipped because nothing changed, or because nothing was drawn.
+	 */
+	public long getLastCommitBytes() {
+		return lastCommitBytes;
 	}
 
 	/**
@@ -160,7 +201,7 @@ public void fillRect(double x, double y, double width, double height, int color)
 	 * 		Color to fill.
 	 */
 	public void fillRect(int x, int y, int width, int height, int color) {
-		updateDrawHash(hash(OP_FILL_RECT, x, y, width, height));
+		updateDrawHash(hash(OP_FILL_RECT, x, y, width, height, color));
 		pixelPainter.fillRect(x, y, width, height, color);
 	}
 
@@ -290,7 +331,7 @@ public void drawVerticalLine(int x, int y, int lineLength, int lineWidth, int co
 	 * 		Image to draw.
 	 */
 	public void drawImage(int x, int y, ArgbSource image) {
-		updateDrawHash(hash(OP_FILL_IMG, x, y, image.hashCode()));
+		updateDrawHash(hash(OP_FILL_IMG, x, y, image.getStamp()));
 		pixelPainter.drawImage(x, y, image);
 	}
 
@@ -313,10 +354,94 @@ public void drawImage(int x, int y, ArgbSource image) {
 	 * 		Image to draw.
 	 */
 	public void drawImage(int x, int y, int sx, int sy, int sw, int sh, ArgbSource image) {
-		updateDrawHash(hash(OP_FILL_IMG, x, y, sx, sy, sw, sh, image.hashCode()));
+		updateDrawHash(hash(OP_FILL_IMG, x, y, sx, sy, sw, sh, image.getStamp()));
 		pixelPainter.drawImage(x, y, sx, sy, sw, sh, image);
 	}
 
+	/**
+	 * Draws an image scaled to fit the given rectangle.
+	 *
+	 * @param x
+	 * 		X coordinate to draw image at.
+	 * @param y
+	 * 		Y coordinate to draw image at.
+	 * @param width
+	 * 		Width to scale the image to.
+	 * @param height
+	 * 		Height to scale the image to.
+	 * @param image
+	 * 		Image to draw.
+	 * @param mode
+	 * 		Sampling mode to scale with.
+	 */
+	public void drawImageScaled(int x, int y, int width, int height, ArgbSource image, ScaleMode mode) {
+		updateDrawHash(hash(OP_FILL_IMG_SCALED, x, y, width, height, mode.ordinal(), image.getStamp()));
+		pixelPainter.drawImageScaled(x, y, width, height, image, mode);
+	}
+
+	/**
+	 * Draws a section of an image scaled to fit the given rectangle.
+	 *
+	 * @param x
+	 * 		X coordinate to draw image at.
+	 * @param y
+	 * 		Y coordinate to draw image at.
+	 * @param width
+	 * 		Width to scale the image section to.
+	 * @param height
+	 * 		Height to scale the image section to.
+	 * @param sx
+	 * 		X coordinate offset into the image.
+	 * @param sy
+	 * 		Y coordinate offset into the image.
+	 * @param sw
+	 * 		Width of the image section to draw.
+	 * @param sh
+	 * 		Height of the image section to draw.
+	 * @param image
+	 * 		Image to draw.
+	 * @param mode
+	 * 		Sampling mode to scale with.
+	 */
+	public void drawImageScaled(int x, int y, int width, int height, int sx, int sy, int sw, int sh, ArgbSource image, ScaleMode mode) {
+		updateDrawHash(hash(OP_FILL_IMG_SCALED, x, y, width, height, mode.ordinal()));
+		updateDrawHash(hash(sx, sy, sw, sh, image.getStamp()));
+		pixelPainter.drawImageScaled(x, y, width, height, sx, sy, sw, sh, image, mode);
+	}
+
+	/**
+	 * Draws an image as a nine-slice to fit the given rectangle. The corners of the image are drawn unscaled,
+	 * the edges are stretched along one axis, and the center is stretched along both axes.
+	 *
+	 * @param x
+	 * 		X coordinate to draw image at.
+	 * @param y
+	 * 		Y coordinate to draw image at.
+	 * @param width
+	 * 		Width to fit the image to.
+	 * @param height
+	 * 		Height to fit the image to.
+	 * @param top
+	 * 		Height of the top slices in the image.
+	 * @param right
+	 * 		Width of the right slices in the image.
+	 * @param bottom
+	 * 		Height of the bottom slices in the image.
+	 * @param left
+	 * 		Width of the left slices in the image.
+	 * @param image
+	 * 		Image to draw.
+	 * @param mode
+	 * 		Sampling mode to stretch the edges and center with.
+	 */
+	public void drawImageNineSlice(int x, int y, int width, int height,
+	                               int top, int right, int bottom, int left,
+	                               ArgbSource image, ScaleMode mode) {
+		updateDrawHash(hash(OP_FILL_IMG_NINE_SLICE, x, y, width, height, mode.ordinal()));
+		updateDrawHash(hash(top, right, bottom, left, image.getStamp()));
+		pixelPainter.drawImageNineSlice(x, y, width, height, top, right, bottom, left, image, mode);
+	}
+
 	/**
 	 * Set a given pixel to the given color.
 	 *
@@ -337,8 +462,63 @@ public void setColor(int x, int y, int color) {
 	 */
 	public void clear() {
 		currentDrawHash = 0;
-		checkDirty();
-		pixelPainter.clear();
+		drawnSinceClear = false;
+
+		// If the buffer is not allocated there is nothing to clear.
+		// It will be allocated in a cleared state on the next draw operation.
+		if (!isDirty())
+			pixelPainter.clear();
+	}
+
+	/**
+	 * Releases the image and painter buffer. They will be allocated again on the next draw operation.
+	 */
+	public void release() {
+		if (releaseTimer != null)
+			releaseTimer.stop();
+		pixelPainter.release();
+		image = null;
+		view.setImage(null);
+	}
+
+	/**
+	 * @return Delay after being cleared before an idle canvas releases its image and buffer.
+	 * {@code null} when the canvas never releases its image and buffer automatically.
+	 */
+	@Nullable
+	public Duration getReleaseDelay() {
+		return releaseDelay;
+	}
+
+	/**
+	 * @param releaseDelay
+	 * 		Delay after being cleared before an idle canvas releases its image and buffer.
+	 *        {@code null} to never release the image and buffer automatically.
+	 */
+	public void setReleaseDelay(@Nullable Duration releaseDelay) {
+		this.releaseDelay = releaseDelay;
+		if (releaseDelay == null && releaseTimer != null)
+			releaseTimer.stop();
+	}
+
+	/**
+	 * Schedules {@link #release()} to occur after the {@link #getReleaseDelay() release delay}
+	 * if nothing is drawn in the meantime. Scheduled even when the image is already gone, such as after a resize
+	 * {@link #markDirty() marks the canvas dirty}, as the painter may still hold its buffer.
+	 */
+	private void scheduleRelease() {
+		Duration delay = releaseDelay;
+		if (delay == null)
+			return;
+		if (releaseTimer == null) {
+			releaseTimer = new PauseTransition();
+			releaseTimer.setOnFinished(e -> {
+				if (!drawnSinceClear)
+					release();
+			});
+		}
+		releaseTimer.setDuration(delay);
+		releaseTimer.playFromStart();
 	}
 
 	/**
@@ -350,10 +530,13 @@ public void clear() {
 	protected void updateDrawHash(int hash) {
 		if (currentDrawHash == 0) currentDrawHash = hash;
 		else currentDrawHash = currentDrawHash * 31 + hash;
+		drawnSinceClear = true;
 		checkDirty();
 	}
 
 	/**
+	 * Prefer the fixed arity overloads where possible, as they do not allocate an array on each call.
+	 *
 	 * @param values
 	 * 		Values to hash.
 	 *
@@ -367,7 +550,44 @@ protected static int hash(int... values) {
 	}
 
 	/**
-	 * A dirty canvas means the buffer state is outdated and needs to be {@link #reallocate() reallocated}.
+	 * Fixed arity hashing is used over varargs so that tracking draw operations does not allocate.
+	 *
+	 * @return Generated hash of the given values.
+	 */
+	protected static int hash(int a, int b, int c, int d) {
+		return 31 * (31 * (31 * a + b) + c) + d;
+	}
+
+	/**
+	 * @return Generated hash of the given values.
+	 */
+	protected static int hash(int a, int b, int c, int d, int e) {
+		return 31 * hash(a, b, c, d) + e;
+	}
+
+	/**
+	 * @return Generated hash of the given values.
+	 */
+	protected static int hash(int a, int b, int c, int d, int e, int f) {
+		return 31 * hash(a, b, c, d, e) + f;
+	}
+
+	/**
+	 * @return Generated hash of the given values.
+	 */
+	protected static int hash(int a, int b, int c, int d, int e, int f, int g) {
+		return 31 * hash(a, b, c, d, e, f) + g;
+	}
+
+	/**
+	 * @return Generated hash of the given values.
+	 */
+	protected static int hash(int a, int b, int c, int d, int e, int f, int g, int h) {
+		return 31 * hash(a, b, c, d, e, f, g) + h;
+	}
+
+	/**
+	 * A dirty canvas means the buffer state is outdated or released, and needs to be {@link #reallocate() reallocated}.
 	 * This will be done automatically when calling drawing methods.
 	 *
 	 * @return {@code true} when this canvas is {@code dirty}.
@@ -249,6 +249,167 @@ default void drawVerticalLine(int x, int y, int lineLength, int lineWidth, int c
 	 */
 	void drawImage(int x, int y, int sx, int sy, int sw, int sh, ArgbSource image);
 
+	/**
+	 * Draws an image scaled to fit the given rectangle.
+	 *
+	 * @param x
+	 * 		X coordinate to draw image at.
+	 * @param y
+	 * 		Y coordinate to draw image at.
+	 * @param width
+	 * 		Width to scale the image to.
+	 * @param height
+	 * 		Height to scale the image to.
+	 * @param image
+	 * 		Image to draw.
+	 * @param mode
+	 * 		Sampling mode to scale with.
+	 */
+	default void drawImageScaled(int x, int y, int width, int height, ArgbSource image, ScaleMode mode) {
+		drawImageScaled(x, y, width, height, 0, 0, image.getWidth(), image.getHeight(), image, mode);
+	}
+
+	/**
+	 * Draws a section of an image scaled to fit the given rectangle.
+	 *
+	 * @param x
+	 * 		X coordinate to draw image at.
+	 * @param y
+	 * 		Y coordinate to draw image at.
+	 * @param width
+	 * 		Width to scale the image section to.
+	 * @param height
+	 * 		Height to scale the image section to.
+	 * @param sx
+	 * 		X coordinate offset into the image.
+	 * @param sy
+	 * 		Y coordinate offset into the image.
+	 * @param sw
+	 * 		Width of the image section to draw.
+	 * @param sh
+	 * 		Height of the image section to draw.
+	 * @param image
+	 * 		Image to draw.
+	 * @param mode
+	 * 		Sampling mode to scale with.
+	 */
+	default void drawImageScaled(int x, int y, int width, int height, int sx, int sy, int sw, int sh, ArgbSource image, ScaleMode mode) {
+		if (width <= 0 || height <= 0 || sw <= 0 || sh <= 0)
+			return;
+
+		// Unscaled draws can skip the stepping tables entirely.
+		if (width == sw && height == sh) {
+			drawImage(x, y, sx, sy, sw, sh, image);
+			return;
+		}
+
+		ArgbView view = image.getArgbView(sx, sy, sw, sh);
+		if (view == null)
+			return;
+
+		// Clip the destination to our bounds.
+		int dxStart = Math.max(0, -x);
+		int dyStart = Math.max(0, -y);
+		int dxEnd = (int) Math.min(width, (long) getWidth() - x);
+		int dyEnd = (int) Math.min(height, (long) getHeight() - y);
+		if (dxStart >= dxEnd || dyStart >= dyEnd)
+			return;
+
+		int[] argb = view.argb();
+		int offset = view.offset();
+		int stride = view.stride();
+		if (mode == ScaleMode.NEAREST) {
+			int[] columns = PixelPainterUtils.nearestSteps(sw, width).indices();
+			int[] rows = PixelPainterUtils.nearestSteps(sh, height).indices();
+			for (int dy = dyStart; dy < dyEnd; dy++) {
+				int rowOffset = offset + rows[dy] * stride;
+				for (int dx = dxStart; dx < dxEnd; dx++)
+					setColor(x + dx, y + dy, argb[rowOffset + columns[dx]]);
+			}
+		} else {
+			PixelPainterUtils.StepTable columnSteps = PixelPainterUtils.bilinearSteps(sw, width);
+			PixelPainterUtils.StepTable rowSteps = PixelPainterUtils.bilinearSteps(sh, height);
+			int[] columns = columnSteps.indices();
+			int[] columnWeights = columnSteps.weights();
+			int[] rows = rowSteps.indices();
+			int[] rowWeights = rowSteps.weights();
+			for (int dy = dyStart; dy < dyEnd; dy++) {
+				int rowOffset = offset + rows[dy] * stride;
+				int rowWeight = rowWeights[dy];
+				int nextRowOffset = rowWeight == 0 ? rowOffset : rowOffset + stride;
+				for (int dx = dxStart; dx < dxEnd; dx++) {
+					int column = columns[dx];
+					int columnWeight = columnWeights[dx];
+					int nextColumn = columnWeight == 0 ? column : column + 1;
+					int top = PixelPainterUtils.lerpArgb(argb[rowOffset + column], argb[rowOffset + nextColumn], columnWeight);
+					int bottom = PixelPainterUtils.lerpArgb(argb[nextRowOffset + column], argb[nextRowOffset + nextColumn], columnWeight);
+					setColor(x + dx, y + dy, PixelPainterUtils.lerpArgb(top, bottom, rowWeight));
+				}
+			}
+		}
+	}
+
+	/**
+	 * Draws an image as a nine-slice to fit the given rectangle. The corners of the image are drawn unscaled,
+	 * the edges are stretched along one axis, and the center is stretched along both axes.
+	 *
+	 * @param x
+	 * 		X coordinate to draw image at.
+	 * @param y
+	 * 		Y coordinate to draw image at.
+	 * @param width
+	 * 		Width to fit the image to.
+	 * @param height
+	 * 		Height to fit the image to.
+	 * @param top
+	 * 		Height of the top slices in the image.
+	 * @param right
+	 * 		Width of the right slices in the image.
+	 * @param bottom
+	 * 		Height of the bottom slices in the image.
+	 * @param left
+	 * 		Width of the left slices in the image.
+	 * @param image
+	 * 		Image to draw.
+	 * @param mode
+	 * 		Sampling mode to stretch the edges and center with.
+	 */
+	default void drawImageNineSlice(int x, int y, int width, int height,
+	                                int top, int right, int bottom, int left,
+	                                ArgbSource image, ScaleMode mode) {
+		int sw = image.getWidth();
+		int sh = image.getHeight();
+		if (width <= 0 || height <= 0 || left + right > sw || top + bottom > sh)
+			return;
+
+		// Source slice boundaries.
+		int[] sxs = {0, left, sw - right, sw};
+		int[] sys = {0, top, sh - bottom, sh};
+
+		// Destination slice boundaries. Insets shrink when the destination cannot fit them.
+		int dl = PixelPainterUtils.nineSliceLeading(width, left, right);
+		int dr = Math.min(right, width - dl);
+		int dt = PixelPainterUtils.nineSliceLeading(height, top, bottom);
+		int db = Math.min(bottom, height - dt);
+		int[] dxs = {0, dl, width - dr, width};
+		int[] dys = {0, dt, height - db, height};
+
+		for (int row = 0; row < 3; row++) {
+			int sy = sys[row];
+			int sliceHeight = sys[row + 1] - sy;
+			int dy = dys[row];
+			int destinationHeight = dys[row + 1] - dy;
+			for (int column = 0; column < 3; column++) {
+				int sx = sxs[column];
+				int sliceWidth = sxs[column + 1] - sx;
+				int dx = dxs[column];
+				int destinationWidth = dxs[column + 1] - dx;
+				drawImageScaled(x + dx, y + dy, destinationWidth, destinationHeight,
+						sx, sy, sliceWidth, sliceHeight, image, mode);
+			}
+		}
+	}
+
 	/**
 	 * Set a given pixel to the given color.
 	 *
@@ -266,6 +427,26 @@ default void drawVerticalLine(int x, int y, int lineLength, int lineWidth, int c
 	 */
 	void clear();
 
+	/**
+	 * Used to clip scaled draws. Painters which do not report their size are not clipped,
+	 * so their {@link #setColor(int, int, int)} must tolerate out of bounds coordinates.
+	 *
+	 * @return Current width of the image being painted.
+	 */
+	default int getWidth() {
+		return Integer.MAX_VALUE;
+	}
+
+	/**
+	 * Used to clip scaled draws. Painters which do not report their size are not clipped,
+	 * so their {@link #setColor(int, int, int)} must tolerate out of bounds coordinates.
+	 *
+	 * @return Current height of the image being painted.
+	 */
+	default int getHeight() {
+		return Integer.MAX_VALUE;
+	}
+
 	/**
 	 * @return Backing buffer.
 	 */
@@ -81,37 +81,22 @@ public void fillRect(int x, int y, int width, int height, int color) {
 
 	@Override
 	public void drawImage(int x, int y, ArgbSource source) {
-		int sourceWidth = source.getWidth();
-		int sourceHeight = source.getHeight();
-		int[] argb = source.getArgb(0, 0, sourceWidth, sourceHeight);
-		if (argb == null)
-			return;
-		int yBound = Math.min(y + sourceHeight, imageHeight);
-		int xBound = Math.min(x + sourceWidth, imageWidth);
-		for (int ly = y; ly < yBound; ly++) {
-			int yOffsetSource = (ly - y) * sourceWidth;
-			for (int lx = x; lx < xBound; lx++) {
-				int sourceIndex = yOffsetSource + (lx - x);
-				if (sourceIndex < argb.length)
-					setColor(lx, ly, argb[sourceIndex]);
-			}
-		}
+		drawImage(x, y, 0, 0, source.getWidth(), source.getHeight(), source);
 	}
 
 	@Override
 	public void drawImage(int x, int y, int sx, int sy, int sw, int sh, ArgbSource source) {
-		int[] argb = source.getArgb(sx, sy, sw, sh);
-		if (argb == null)
+		ArgbView view = source.getArgbView(sx, sy, sw, sh);
+		if (view == null)
 			return;
+		int[] argb = view.argb();
+		int stride = view.stride();
 		int yBound = Math.min(y + sh, imageHeight);
 		int xBound = Math.min(x + sw, imageWidth);
-		for (int ly = y; ly < yBound; ly++) {
-			int yOffsetSource = (ly - y) * sw;
-			for (int lx = x; lx < xBound; lx++) {
-				int sourceIndex = yOffsetSource + (lx - x);
-				if (sourceIndex < argb.length)
-					setColor(lx, ly, argb[sourceIndex]);
-			}
+		for (int ly = Math.max(y, 0); ly < yBound; ly++) {
+			int rowOffsetSource = view.offset() + (ly - y) * stride - x;
+			for (int lx = Math.max(x, 0); lx < xBound; lx++)
+				setColor(lx, ly, argb[rowOffsetSource + lx]);
 		}
 	}
 
@@ -140,6 +125,16 @@ public ByteBuffer getBuffer() {
 		return drawBuffer;
 	}
 
+	@Override
+	public int getWidth() {
+		return imageWidth;
+	}
+
+	@Override
+	public int getHeight() {
+		return imageHeight;
+	}
+
 	@Override
 	public PixelFormat<ByteBuffer> getPixelFormat() {
 		return PixelFormat.getByteBgraInstance();
@@ -13,4 +13,174 @@ public class PixelPainterUtils {
 	public static final byte[] EMPTY_ARRAY_B = new byte[0];
 	public static final IntBuffer EMPTY_BUFFER_I = IntBuffer.wrap(EMPTY_ARRAY_I);
 	public static final ByteBuffer EMPTY_BUFFER_B = ByteBuffer.wrap(EMPTY_ARRAY_B);
+	/** Bits of fractional precision used when stepping through source coordinates. */
+	private static final int FIXED_SHIFT = 16;
+	/** Bits of precision of bilinear blend weights. */
+	private static final int WEIGHT_SHIFT = 8;
+	/** Number of slots in each step table cache. Must be a power of two. */
+	private static final int STEP_TABLE_SLOTS = 64;
+	private static final StepTable[] NEAREST_STEP_TABLES = new StepTable[STEP_TABLE_SLOTS];
+	private static final StepTable[] BILINEAR_STEP_TABLES = new StepTable[STEP_TABLE_SLOTS];
+
+	/**
+	 * Computes a table mapping destination coordinates to the nearest source coordinate, sampling at pixel centers.
+	 *
+	 * @param sourceSize
+	 * 		Number of source pixels along an axis.
+	 * @param destinationSize
+	 * 		Number of destination pixels along an axis.
+	 *
+	 * @return Table of source coordinates, indexed by destination coordinate.
+	 */
+	public static int[] nearestStepTable(int sourceSize, int destinationSize) {
+		int[] table = new int[destinationSize];
+		long step = ((long) sourceSize << FIXED_SHIFT) / destinationSize;
+		long position = step >> 1;
+		int max = sourceSize - 1;
+		for (int i = 0; i < destinationSize; i++) {
+			table[i] = Math.min((int) (position >> FIXED_SHIFT), max);
+			position += step;
+		}
+		return table;
+	}
+
+	/**
+	 * Computes tables mapping destination coordinates to the pair of source coordinates to blend between,
+	 * sampling at pixel centers. The pair is {@code indices[i]} and {@code indices[i] + 1}, and the blend weight
+	 * of the second is {@code weights[i]} out of {@code 256}. Edges are clamped, so the second coordinate of the pair
+	 * is only used when its weight is non-zero.
+	 *
+	 * @param sourceSize
+	 * 		Number of source pixels along an axis.
+	 * @param destinationSize
+	 * 		Number of destination pixels along an axis.
+	 * @param indices
+	 * 		Table to fill with the first source coordinate of each pair.
+	 * @param weights
+	 * 		Table to fill with the blend weight of the second source coordinate of each pair.
+	 */
+	public static void bilinearStepTable(int sourceSize, int destinationSize, int[] indices, int[] weights) {
+		long step = ((long) sourceSize << FIXED_SHIFT) / destinationSize;
+		long position = (step >> 1) - (1L << (FIXED_SHIFT - 1));
+		int max = sourceSize - 1;
+		for (int i = 0; i < destinationSize; i++) {
+			long clamped = Math.max(position, 0);
+			int index = (int) (clamped >> FIXED_SHIFT);
+			if (index >= max) {
+				indices[i] = max;
+				weights[i] = 0;
+			} else {
+				indices[i] = index;
+				weights[i] = (int) ((clamped >> (FIXED_SHIFT - WEIGHT_SHIFT)) & 0xFF);
+			}
+			position += step;
+		}
+	}
+
+	/**
+	 * Cached variant of {@link #nearestStepTable(int, int)}, so repeated draws of the same scale do not allocate.
+	 *
+	 * @param sourceSize
+	 * 		Number of source pixels along an axis.
+	 * @param destinationSize
+	 * 		Number of destination pixels along an axis.
+	 *
+	 * @return Shared table of source coordinates, which must not be modified.
+	 */
+	static StepTable nearestSteps(int sourceSize, int destinationSize) {
+		int slot = stepTableSlot(sourceSize, destinationSize);
+		StepTable table = NEAREST_STEP_TABLES[slot];
+		if (table == null || !table.matches(sourceSize, destinationSize)) {
+			table = new StepTable(sourceSize, destinationSize, nearestStepTable(sourceSize, destinationSize), EMPTY_ARRAY_I);
+			NEAREST_STEP_TABLES[slot] = table;
+		}
+		return table;
+	}
+
+	/**
+	 * Cached variant of {@link #bilinearStepTable(int, int, int[], int[])}, so repeated draws of the same scale do not allocate.
+	 *
+	 * @param sourceSize
+	 * 		Number of source pixels along an axis.
+	 * @param destinationSize
+	 * 		Number of destination pixels along an axis.
+	 *
+	 * @return Shared tables of source coordinates and blend weights, which must not be modified.
+	 */
+	static StepTable bilinearSteps(int sourceSize, int destinationSize) {
+		int slot = stepTableSlot(sourceSize, destinationSize);
+		StepTable table = BILINEAR_STEP_TABLES[slot];
+		if (table == null || !table.matches(sourceSize, destinationSize)) {
+			int[] indices = new int[destinationSize];
+			int[] weights = new int[destinationSize];
+			bilinearStepTable(sourceSize, destinationSize, indices, weights);
+			table = new StepTable(sourceSize, destinationSize, indices, weights);
+			BILINEAR_STEP_TABLES[slot] = table;
+		}
+		return table;
+	}
+
+	private static int stepTableSlot(int sourceSize, int destinationSize) {
+		int hash = sourceSize * 31 + destinationSize;
+		return (hash ^ (hash >>> 16)) & (STEP_TABLE_SLOTS - 1);
+	}
+
+	/**
+	 * @param first
+	 * 		First ARGB color.
+	 * @param second
+	 * 		Second ARGB color.
+	 * @param weight
+	 * 		Weight of the second color, out of {@code 256}.
+	 *
+	 * @return Per-channel linear blend of the two colors.
+	 */
+	public static int lerpArgb(int first, int second, int weight) {
+		if (weight == 0 || first == second)
+			return first;
+		int inverse = (1 << WEIGHT_SHIFT) - weight;
+		int a = ((first >>> 24) * inverse + (second >>> 24) * weight) >> WEIGHT_SHIFT;
+		int r = (((first >> 16) & 0xFF) * inverse + ((second >> 16) & 0xFF) * weight) >> WEIGHT_SHIFT;
+		int g = (((first >> 8) & 0xFF) * inverse + ((second >> 8) & 0xFF) * weight) >> WEIGHT_SHIFT;
+		int b = ((first & 0xFF) * inverse + (second & 0xFF) * weight) >> WEIGHT_SHIFT;
+		return (a << 24) | (r << 16) | (g << 8) | b;
+	}
+
+	/**
+	 * Splits a destination span into three segments for nine-slice drawing. When the destination is
+	 * too small to fit both fixed insets, the insets are shrunk proportionally.
+	 *
+	 * @param size
+	 * 		Destination span size.
+	 * @param start
+	 * 		Leading inset.
+	 * @param end
+	 * 		Trailing inset.
+	 *
+	 * @return Size of the leading segment. The trailing segment is {@code min(end, size - leading)}.
+	 */
+	static int nineSliceLeading(int size, int start, int end) {
+		if (start + end <= size)
+			return start;
+		return start + end == 0 ? 0 : (int) ((long) start * size / (start + end));
+	}
+
+	/**
+	 * Immutable step tables for scaling between a pair of sizes. Tables are shared between draws once computed.
+	 * Entries are never modified after construction, so tables are safely published across threads by their final fields.
+	 *
+	 * @param sourceSize
+	 * 		Number of source pixels along an axis.
+	 * @param destinationSize
+	 * 		Number of destination pixels along an axis.
+	 * @param indices
+	 * 		Source coordinates, indexed by destination coordinate.
+	 * @param weights
+	 * 		Bilinear blend weights, indexed by destination coordinate. Empty for nearest-neighbor tables.
+	 */
+	record StepTable(int sourceSize, int destinationSize, int[] indices, int[] weights) {
+		private boolean matches(int sourceSize, int destinationSize) {
+			return this.sourceSize == sourceSize && this.destinationSize == destinationSize;
+		}
+	}
 }
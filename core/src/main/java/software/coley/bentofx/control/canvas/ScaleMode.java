@@ -0,0 +1,14 @@
+package software.coley.bentofx.control.canvas;
+
+/**
+ * Sampling modes for scaled image draw operations.
+ *
+ * @author Matt Coley
+ * @see PixelPainter#drawImageScaled(int, int, int, int, int, int, int, int, ArgbSource, ScaleMode)
+ */
+public enum ScaleMode {
+	/** Each destination pixel takes the color of the nearest source pixel. Fastest, but blocky. */
+	NEAREST,
+	/** Each destination pixel blends the four nearest source pixels. Smooth, but slower. */
+	BILINEAR
+}
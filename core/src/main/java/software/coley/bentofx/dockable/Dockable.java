@@ -1,8 +1,11 @@
 package software.coley.bentofx.dockable;
 
+import javafx.application.Platform;
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.IntegerProperty;
 import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyBooleanWrapper;
 import javafx.beans.property.SimpleBooleanProperty;
 import javafx.beans.property.SimpleIntegerProperty;
 import javafx.beans.property.SimpleObjectProperty;
@@ -21,8 +24,14 @@
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * Outline of some item to display.
@@ -43,6 +52,9 @@ public class Dockable implements BentoBacked, Identifiable {
 	private @Nullable BooleanProperty canBeDragged;
 	private @Nullable BooleanProperty canBeDroppedToNewWindow;
 	private @Nullable List<DockableCloseListener> closeListeners;
+	private @Nullable ReadOnlyBooleanWrapper loading;
+	private @Nullable CompletableFuture<Node> pendingNode;
+	private @Nullable Supplier<? extends CompletableFuture<? extends Node>> lazyNode;
 
 	/**
 	 * @param bento
@@ -244,13 +256,192 @@ public ObjectProperty<Node> nodeProperty() {
 	}
 
 	/**
+	 * Cancels any pending {@link #setNodeAsync(Supplier) async content}.
+	 *
 	 * @param node
 	 * 		New node to display when this dockable is selected.
 	 */
 	public void setNode(@Nullable Node node) {
+		cancelNodeLoading();
+		lazyNode = null;
 		nodeProperty().set(node);
 	}
 
+	/**
+	 * Assigns content which is prepared in the background. Until it is ready, the current node is cleared
+	 * so that the {@link software.coley.bentofx.building.PlaceholderBuilding placeholder} is shown instead.
+	 * The loaded node is assigned on the FX thread, unless the load is superseded by another call to
+	 * {@link #setNode(Node)} or this method, or the dockable is closed first. Must be called on the FX thread.
+	 *
+	 * @param loader
+	 * 		Supplier of a future yielding the node to display. Should not block the calling thread.
+	 *
+	 * @return Future completed once the node has been assigned.
+	 * Cancelled when the load is superseded or the dockable is closed.
+	 */
+	public CompletableFuture<Node> setNodeAsync(Supplier<? extends CompletableFuture<? extends Node>> loader) {
+		lazyNode = null;
+		return startNodeLoading(loader);
+	}
+
+	/**
+	 * Assigns content which is only prepared once it is needed, when this dockable is first selected
+	 * or {@link DockContainerLeaf#getPrefetchPolicy() prefetched} by its leaf. Until then the
+	 * {@link software.coley.bentofx.building.PlaceholderBuilding placeholder} is shown.
+	 *
+	 * @param loader
+	 * 		Supplier of a future yielding the node to display. Should not block the calling thread.
+	 *
+	 * @see #loadNode()
+	 */
+	public void setLazyNode(Supplier<? extends CompletableFuture<? extends Node>> loader) {
+		cancelNodeLoading();
+		nodeProperty().set(null);
+		lazyNode = loader;
+	}
+
+	/**
+	 * @return {@code true} when this dockable has {@link #setLazyNode(Supplier) lazy content} which has not yet been loaded.
+	 */
+	public boolean hasUnloadedNode() {
+		return lazyNode != null;
+	}
+
+	/**
+	 * Starts loading {@link #setLazyNode(Supplier) lazy content}. If loading is cancelled before it completes,
+	 * the content remains lazy and can be loaded again later. Must be called on the FX thread.
+	 *
+	 * @return Future completed once the node has been assigned.
+	 */
+	public CompletableFuture<Node> loadNode() {
+		Supplier<? extends CompletableFuture<? extends Node>> loader = lazyNode;
+		if (loader == null) {
+			CompletableFuture<Node> pending = pendingNode;
+			return pending != null ? pending : CompletableFuture.completedFuture(getNode());
+		}
+		CompletableFuture<Node> pending = pendingNode;
+		if (pending != null)
+			return pending;
+		return startNodeLoading(loader);
+	}
+
+	private CompletableFuture<Node> startNodeLoading(Supplier<? extends CompletableFuture<? extends Node>> loader) {
+		cancelNodeLoading();
+		nodeProperty().set(null);
+
+		CompletableFuture<? extends Node> source = loader.get();
+		CompletableFuture<Node> assigned = new CompletableFuture<>();
+		pendingNode = assigned;
+		setLoading(true);
+
+		// Propagate cancellation of the assignment back to the source, so that its work can be abandoned.
+		assigned.whenComplete((n, error) -> {
+			if (assigned.isCancelled())
+				source.cancel(true);
+		});
+		source.whenCompleteAsync((result, error) -> {
+			if (pendingNode != assigned)
+				return;
+			pendingNode = null;
+			setLoading(false);
+			if (error != null) {
+				assigned.completeExceptionally(error);
+			} else {
+				if (lazyNode == loader)
+					lazyNode = null;
+				nodeProperty().set(result);
+				assigned.complete(result);
+			}
+		}, Platform::runLater);
+		return assigned;
+	}
+
+	/**
+	 * Assigns content which is prepared in two steps. The model is prepared on the
+	 * {@link Bento#getContentExecutor() content executor}, then the node displaying it is built on the FX thread.
+	 * If the load is cancelled while the model is being prepared, the thread preparing it is interrupted.
+	 *
+	 * @param model
+	 * 		Task preparing the model to display, such as parsing a file.
+	 * @param display
+	 * 		Function building the node to display the prepared model with.
+	 * @param <T>
+	 * 		Model type.
+	 *
+	 * @return Future completed once the node has been assigned.
+	 * Cancelled when the load is superseded or the dockable is closed.
+	 *
+	 * @see #setNodeAsync(Supplier)
+	 */
+	public <T> CompletableFuture<Node> setNodeAsync(Callable<? extends T> model, Function<? super T, ? extends Node> display) {
+		return setNodeAsync(() -> {
+			CompletableFuture<T> prepared = new CompletableFuture<>();
+			FutureTask<T> task = new FutureTask<>(model::call) {
+				@Override
+				protected void done() {
+					if (isCancelled()) {
+						prepared.cancel(false);
+						return;
+					}
+					try {
+						prepared.complete(get());
+					} catch (ExecutionException ex) {
+						prepared.completeExceptionally(ex.getCause());
+					} catch (InterruptedException ex) {
+						// Not reachable, as the task is done.
+						prepared.completeExceptionally(ex);
+					}
+				}
+			};
+			CompletableFuture<Node> displayed = prepared.thenApplyAsync(display, Platform::runLater);
+
+			// Cancelling a completable future does not interrupt the work completing it,
+			// so cancel the task itself to interrupt the thread preparing the model.
+			displayed.whenComplete((n, error) -> {
+				if (displayed.isCancelled())
+					task.cancel(true);
+			});
+			bento.getContentExecutor().execute(task);
+			return displayed;
+		});
+	}
+
+	/**
+	 * Cancels any pending {@link #setNodeAsync(Supplier) async content}.
+	 * The content remains the placeholder until new content is assigned, or lazy content is loaded again.
+	 */
+	public void cancelNodeLoading() {
+		CompletableFuture<Node> pending = pendingNode;
+		if (pending != null) {
+			pendingNode = null;
+			setLoading(false);
+			pending.cancel(true);
+		}
+	}
+
+	/**
+	 * @return {@code true} while {@link #setNodeAsync(Supplier) async content} is being prepared.
+	 */
+	public boolean isLoading() {
+		return loading != null && loading.get();
+	}
+
+	/**
+	 * @return Loading state property.
+	 */
+	public ReadOnlyBooleanProperty loadingProperty() {
+		if (loading == null)
+			loading = new ReadOnlyBooleanWrapper();
+		return loading.getReadOnlyProperty();
+	}
+
+	private void setLoading(boolean loading) {
+		if (loading || this.loading != null) {
+			loadingProperty();
+			Objects.requireNonNull(this.loading).set(loading);
+		}
+	}
+
 	/**
 	 * @return Current parent container.
 	 */
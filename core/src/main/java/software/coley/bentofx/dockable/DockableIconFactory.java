@@ -8,6 +8,7 @@
  * Implementations should create <b>NEW</b> instances for <b>EACH</b> call.
  *
  * @author Matt Coley
+ * @see DockableImageIconFactory Variant sharing cached image data between graphics.
  */
 public interface DockableIconFactory {
 	/**
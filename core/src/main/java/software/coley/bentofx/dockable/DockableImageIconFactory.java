@@ -0,0 +1,58 @@
+package software.coley.bentofx.dockable;
+
+import javafx.scene.Node;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import org.jspecify.annotations.Nullable;
+import software.coley.bentofx.Bento;
+
+/**
+ * Icon factory which builds its graphics from shareable {@link Image} data.
+ * <p/>
+ * Images are cached by {@link #getCacheKey(Dockable) key} in the {@link Bento#iconCache() icon cache},
+ * so dockables with the same icon, such as those showing files of the same type, share a single image.
+ * Only a lightweight {@link #newGraphic(Image) graphic} is created for each header and menu item.
+ *
+ * @author Matt Coley
+ */
+public interface DockableImageIconFactory extends DockableIconFactory {
+	/**
+	 * @param dockable
+	 * 		Dockable to create a graphic for.
+	 *
+	 * @return Key identifying the image for the dockable. Dockables with equal keys share the same image.
+	 * {@code null} to skip caching for the dockable.
+	 */
+	@Nullable
+	Object getCacheKey(Dockable dockable);
+
+	/**
+	 * @param dockable
+	 * 		Dockable to create an image for.
+	 *
+	 * @return Image for the dockable.
+	 */
+	@Nullable
+	Image buildImage(Dockable dockable);
+
+	/**
+	 * @param image
+	 * 		Image to display, possibly shared with other graphics.
+	 *
+	 * @return New graphic displaying the image.
+	 */
+	default Node newGraphic(Image image) {
+		return new ImageView(image);
+	}
+
+	/**
+	 * Builds the graphic without going through a cache.
+	 *
+	 * @see IconCache#build(Dockable, DockableIconFactory)
+	 */
+	@Override
+	default @Nullable Node build(Dockable dockable) {
+		Image image = buildImage(dockable);
+		return image == null ? null : newGraphic(image);
+	}
+}
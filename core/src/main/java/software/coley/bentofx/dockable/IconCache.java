@@ -0,0 +1,98 @@
+package software.coley.bentofx.dockable;
+
+import javafx.scene.Node;
+import javafx.scene.image.Image;
+import org.jspecify.annotations.Nullable;
+
+import java.lang.ref.WeakReference;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Cache of images built by {@link DockableImageIconFactory}, shared by all headers and menus of a {@link software.coley.bentofx.Bento} instance.
+ * <p/>
+ * Images are weakly held, so an image stays cached for as long as some graphic still displays it.
+ * The number of entries is bounded, evicting the least recently used keys.
+ * The cache is used on the FX thread, and is not thread safe.
+ *
+ * @author Matt Coley
+ */
+public class IconCache {
+	private static final int DEFAULT_MAX_SIZE = 256;
+	private final Map<Object, WeakReference<Image>> images = new LinkedHashMap<>(16, 0.75F, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Object, WeakReference<Image>> eldest) {
+			return size() > maxSize;
+		}
+	};
+	private int maxSize = DEFAULT_MAX_SIZE;
+
+	/**
+	 * @param dockable
+	 * 		Dockable to create a graphic for.
+	 * @param factory
+	 * 		Factory to create the graphic with.
+	 *
+	 * @return Graphic for the dockable. When the factory is a {@link DockableImageIconFactory} the graphic
+	 * displays a cached image, otherwise it is built directly by the factory.
+	 */
+	public @Nullable Node build(Dockable dockable, DockableIconFactory factory) {
+		if (!(factory instanceof DockableImageIconFactory imageFactory))
+			return factory.build(dockable);
+
+		Object key = imageFactory.getCacheKey(dockable);
+		if (key == null)
+			return imageFactory.build(dockable);
+
+		WeakReference<Image> ref = images.get(key);
+		@Nullable Image image = ref == null ? null : ref.get();
+		if (image == null) {
+			image = imageFactory.buildImage(dockable);
+			if (image == null) {
+				images.remove(key);
+				return null;
+			}
+			images.put(key, new WeakReference<>(image));
+		}
+		return imageFactory.newGraphic(image);
+	}
+
+	/**
+	 * @return Number of cached entries, including those with images which have since been collected.
+	 */
+	public int size() {
+		return images.size();
+	}
+
+	/**
+	 * @return Maximum number of cached entries.
+	 */
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	/**
+	 * @param maxSize
+	 * 		Maximum number of cached entries.
+	 */
+	public void setMaxSize(int maxSize) {
+		if (maxSize < 0)
+			throw new IllegalArgumentException("Max size cannot be negative: " + maxSize);
+		this.maxSize = maxSize;
+
+		// Trim down to the new bound, least recently used first.
+		Iterator<Object> iterator = images.keySet().iterator();
+		while (images.size() > maxSize && iterator.hasNext()) {
+			iterator.next();
+			iterator.remove();
+		}
+	}
+
+	/**
+	 * Drops all cached images, so that they are rebuilt when next used.
+	 */
+	public void clear() {
+		images.clear();
+	}
+}
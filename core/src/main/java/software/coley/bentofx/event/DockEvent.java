@@ -8,6 +8,8 @@
 import software.coley.bentofx.layout.container.DockContainerLeaf;
 import software.coley.bentofx.layout.container.DockContainerRootBranch;
 
+import java.util.List;
+
 /**
  * Outline of all docking events.
  *
@@ -180,4 +182,14 @@ record DockableSelected(Dockable dockable, DockContainerLeaf container) implemen
 	 */
 	record DockableParentChanged(Dockable dockable, @Nullable DockContainerLeaf priorParent,
 	                             @Nullable DockContainerLeaf newParent) implements DockEvent {}
+
+	/**
+	 * Event for when a target layout is {@link Bento#applyLayout applied}. Layouts are applied in a single
+	 * {@link EventBus#batch batch}, so this event follows the container and dockable events of each individual
+	 * change, marking the end of the batch.
+	 *
+	 * @param roots
+	 * 		Root containers the layout was applied to.
+	 */
+	record LayoutApplied(List<DockContainerRootBranch> roots) implements DockEvent {}
 }
@@ -0,0 +1,171 @@
+package software.coley.bentofx.event;
+
+import org.jspecify.annotations.Nullable;
+import software.coley.bentofx.Identifiable;
+import software.coley.bentofx.dockable.Dockable;
+import software.coley.bentofx.layout.DockContainer;
+
+import java.util.List;
+
+/**
+ * Immutable copy of a {@link DockEvent}, which can safely be read from any thread.
+ * <p/>
+ * Rather than live {@link DockContainer} and {@link Dockable} references, which are JavaFX nodes
+ * and must only be read on the FX thread, snapshots carry identifiers and identifier paths.
+ * Paths list container identifiers from the root container down to the referenced container,
+ * as they were at the time the event was fired.
+ *
+ * @author Matt Coley
+ * @see DockEventSnapshotListener
+ */
+public sealed interface DockEventSnapshot {
+	/**
+	 * Must be called on the FX thread, as it reads the state of the event's containers.
+	 *
+	 * @param event
+	 * 		Live event to copy.
+	 *
+	 * @return Immutable snapshot of the event.
+	 */
+	static DockEventSnapshot of(DockEvent event) {
+		return switch (event) {
+			case DockEvent.RootContainerAdded e -> new RootContainerAdded(e.container().getIdentifier());
+			case DockEvent.RootContainerRemoved e -> new RootContainerRemoved(e.container().getIdentifier());
+			case DockEvent.ContainerParentChanged e ->
+					new ContainerParentChanged(e.container().getIdentifier(), path(e.priorParent()), path(e.newParent()));
+			case DockEvent.ContainerChildAdded e ->
+					new ContainerChildAdded(path(e.container()), e.child().getIdentifier());
+			case DockEvent.ContainerChildRemoved e ->
+					new ContainerChildRemoved(path(e.container()), e.child().getIdentifier());
+			case DockEvent.DockableAdded e ->
+					new DockableAdded(path(e.container()), e.dockable().getIdentifier(), e.dockable().getTitle());
+			case DockEvent.DockableClosing e ->
+					new DockableClosing(path(e.container()), e.dockable().getIdentifier(), e.dockable().getTitle(), e.isCancelled());
+			case DockEvent.DockableRemoved e ->
+					new DockableRemoved(path(e.container()), e.dockable().getIdentifier(), e.dockable().getTitle());
+			case DockEvent.DockableSelected e ->
+					new DockableSelected(path(e.container()), e.dockable().getIdentifier(), e.dockable().getTitle());
+			case DockEvent.DockableParentChanged e ->
+					new DockableParentChanged(e.dockable().getIdentifier(), path(e.priorParent()), path(e.newParent()));
+			case DockEvent.LayoutApplied e ->
+					new LayoutApplied(e.roots().stream().map(Identifiable::getIdentifier).toList());
+		};
+	}
+
+	/**
+	 * @param container
+	 * 		Some container.
+	 *
+	 * @return Identifiers of containers from the root down to the given container,
+	 * or {@code null} if the container is {@code null}.
+	 */
+	private static @Nullable List<String> path(@Nullable DockContainer container) {
+		if (container == null)
+			return null;
+		return container.getPath().containers().stream()
+				.map(Identifiable::getIdentifier)
+				.toList();
+	}
+
+	/**
+	 * @param container
+	 * 		Identifier of the root container added.
+	 */
+	record RootContainerAdded(String container) implements DockEventSnapshot {}
+
+	/**
+	 * @param container
+	 * 		Identifier of the root container removed.
+	 */
+	record RootContainerRemoved(String container) implements DockEventSnapshot {}
+
+	/**
+	 * @param container
+	 * 		Identifier of the container being updated.
+	 * @param priorParentPath
+	 * 		Path to the container's prior parent.
+	 * @param newParentPath
+	 * 		Path to the container's new parent.
+	 */
+	record ContainerParentChanged(String container, @Nullable List<String> priorParentPath,
+	                              @Nullable List<String> newParentPath) implements DockEventSnapshot {}
+
+	/**
+	 * @param containerPath
+	 * 		Path to the container being updated.
+	 * @param child
+	 * 		Identifier of the child added to the container.
+	 */
+	record ContainerChildAdded(List<String> containerPath, String child) implements DockEventSnapshot {}
+
+	/**
+	 * @param containerPath
+	 * 		Path to the container being updated.
+	 * @param child
+	 * 		Identifier of the child removed from the container.
+	 */
+	record ContainerChildRemoved(List<String> containerPath, String child) implements DockEventSnapshot {}
+
+	/**
+	 * @param containerPath
+	 * 		Path to the container the dockable was added to.
+	 * @param dockable
+	 * 		Identifier of the dockable added.
+	 * @param title
+	 * 		Title of the dockable.
+	 */
+	record DockableAdded(List<String> containerPath, String dockable, String title) implements DockEventSnapshot {}
+
+	/**
+	 * Snapshots are delivered after all live listeners have handled the event, so unlike the live event
+	 * this cannot be cancelled, but does record if any live listener cancelled it.
+	 *
+	 * @param containerPath
+	 * 		Path to the container the dockable belongs to.
+	 * @param dockable
+	 * 		Identifier of the dockable being closed.
+	 * @param title
+	 * 		Title of the dockable.
+	 * @param cancelled
+	 *        {@code true} when closing the dockable was cancelled.
+	 */
+	record DockableClosing(List<String> containerPath, String dockable, String title,
+	                       boolean cancelled) implements DockEventSnapshot {}
+
+	/**
+	 * @param containerPath
+	 * 		Path to the container the dockable belonged to.
+	 * @param dockable
+	 * 		Identifier of the dockable removed.
+	 * @param title
+	 * 		Title of the dockable.
+	 */
+	record DockableRemoved(List<String> containerPath, String dockable, String title) implements DockEventSnapshot {}
+
+	/**
+	 * @param containerPath
+	 * 		Path to the container the dockable belongs to.
+	 * @param dockable
+	 * 		Identifier of the dockable selected.
+	 * @param title
+	 * 		Title of the dockable.
+	 */
+	record DockableSelected(List<String> containerPath, String dockable, String title) implements DockEventSnapshot {}
+
+	/**
+	 * @param dockable
+	 * 		Identifier of the dockable being updated.
+	 * @param priorParentPath
+	 * 		Path to the dockable's prior parent.
+	 * @param newParentPath
+	 * 		Path to the dockable's new parent.
+	 */
+	record DockableParentChanged(String dockable, @Nullable List<String> priorParentPath,
+	                             @Nullable List<String> newParentPath) implements DockEventSnapshot {}
+
+	/**
+	 * @param roots
+	 * 		Identifiers of the root containers the layout was applied to.
+	 */
+	record LayoutApplied(List<String> roots) implements DockEventSnapshot {}
+}
@@ -0,0 +1,15 @@
+package software.coley.bentofx.event;
+
+/**
+ * Listener invoked off the FX thread with an immutable {@link DockEventSnapshot} of any fired {@link DockEvent}.
+ *
+ * @author Matt Coley
+ * @see EventBus#addAsyncEventListener(DockEventSnapshotListener)
+ */
+public interface DockEventSnapshotListener {
+	/**
+	 * @param event
+	 * 		Snapshot of the event fired.
+	 */
+	void onDockEvent(DockEventSnapshot event);
+}
@@ -1,17 +1,28 @@
 package software.coley.bentofx.event;
 
+import javafx.util.Duration;
+import org.jspecify.annotations.Nullable;
 import software.coley.bentofx.dockable.Dockable;
 import software.coley.bentofx.dockable.DockableCloseListener;
 import software.coley.bentofx.dockable.DockableMoveListener;
 import software.coley.bentofx.dockable.DockableOpenListener;
 import software.coley.bentofx.dockable.DockableSelectListener;
+import software.coley.bentofx.jfr.EventDispatchEvent;
 import software.coley.bentofx.layout.container.DockContainerLeaf;
+import software.coley.bentofx.metrics.BentoMetrics;
 import software.coley.bentofx.path.DockablePath;
 
+import java.util.ArrayDeque;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 /**
  * Bus for handling event firing and event listeners.
@@ -19,20 +30,124 @@
  * @author Matt Coley
  */
 public class EventBus {
+	private static final ListenerErrorHandler DEFAULT_ERROR_HANDLER = (listener, event, error) -> {
+		Thread thread = Thread.currentThread();
+		thread.getUncaughtExceptionHandler().uncaughtException(thread, error);
+	};
 	private final List<DockEventListener> eventListeners = new CopyOnWriteArrayList<>();
+	private final List<EventSubscription> subscriptions = new CopyOnWriteArrayList<>();
 	private final List<DockableOpenListener> openListeners = new CopyOnWriteArrayList<>();
 	private final List<DockableMoveListener> moveListeners = new CopyOnWriteArrayList<>();
 	private final List<DockableCloseListener> closeListeners = new CopyOnWriteArrayList<>();
 	private final List<DockableSelectListener> selectListeners = new CopyOnWriteArrayList<>();
+	private BentoMetrics metrics = BentoMetrics.NONE;
+	private ListenerErrorHandler errorHandler = DEFAULT_ERROR_HANDLER;
+	private @Nullable SlowListenerHandler slowListenerHandler;
+	private @Nullable Duration slowListenerThreshold;
+	private long slowListenerThresholdNanos = Long.MAX_VALUE;
+	private @Nullable Executor asyncExecutor;
+	private @Nullable Deque<DockEvent> batchQueue;
 
 	/**
+	 * Fires the event to all listeners on the current thread, then to all
+	 * {@link #addAsyncEventListener(DockEventSnapshotListener) async listeners} on the {@link #getAsyncExecutor() async executor}.
+	 * <p/>
+	 * A listener throwing an exception does not prevent the event from reaching the remaining listeners.
+	 * Instead, the exception is passed to the {@link #getErrorHandler() error handler}.
+	 * <p/>
+	 * Events fired within a {@link #batch(Runnable, Supplier) batch} are queued until the batch completes.
+	 *
 	 * @param event
 	 * 		Event to fire.
 	 */
 	public void fire(DockEvent event) {
+		Deque<DockEvent> queue = batchQueue;
+		if (queue != null) {
+			// Closing can be cancelled by listeners, so it cannot wait for the batch to complete.
+			// The events queued before it are delivered first, so that listeners still see events in order.
+			if (!(event instanceof DockEvent.DockableClosing)) {
+				queue.add(event);
+				return;
+			}
+			deliverQueued(queue);
+		}
+		deliverNow(event);
+	}
+
+	/**
+	 * Runs the action with event delivery deferred. Events fired by the action are queued, then delivered in order
+	 * once it completes, followed by the summary event marking the end of the batch. This is done even if the action
+	 * throws. Must be used on the FX thread.
+	 * <p/>
+	 * {@link DockEvent.DockableClosing} events are not deferred, as their listeners may cancel the closure.
+	 * Listeners reading the layout when handling deferred events see the layout as the batch left it.
+	 * Batches may be nested, in which case the inner batch's events and summary are delivered with the outer batch.
+	 *
+	 * @param action
+	 * 		Action to run.
+	 * @param summary
+	 * 		Supplier of the event to fire once the action completes.
+	 */
+	public void batch(Runnable action, Supplier<? extends DockEvent> summary) {
+		Deque<DockEvent> outer = batchQueue;
+		if (outer != null) {
+			try {
+				action.run();
+			} finally {
+				outer.add(summary.get());
+			}
+			return;
+		}
+
+		Deque<DockEvent> queue = new ArrayDeque<>();
+		batchQueue = queue;
+		try {
+			action.run();
+		} finally {
+			queue.add(summary.get());
+
+			// Events fired by listeners while delivering are queued behind the remaining events, keeping their order.
+			try {
+				deliverQueued(queue);
+			} finally {
+				batchQueue = null;
+			}
+		}
+	}
+
+	private void deliverQueued(Deque<DockEvent> queue) {
+		DockEvent event;
+		while ((event = queue.poll()) != null)
+			deliverNow(event);
+	}
+
+	private void deliverNow(DockEvent event) {
+		BentoMetrics metrics = this.metrics;
+		EventDispatchEvent dispatchEvent = new EventDispatchEvent();
+		dispatchEvent.begin();
+		long start = metrics.isEnabled() ? System.nanoTime() : 0;
+		try {
+			dispatch(event);
+		} finally {
+			if (metrics.isEnabled())
+				metrics.recordTime(BentoMetrics.EVENT_DISPATCH, event.getClass(), System.nanoTime() - start);
+			dispatchEvent.complete(event);
+		}
+
+		// Async listeners get the event last, so that any changes made by the regular listeners
+		// (such as cancelling a dockable closure) are reflected in the snapshot.
+		if (!subscriptions.isEmpty()) {
+			DockEventSnapshot snapshot = DockEventSnapshot.of(event);
+			for (EventSubscription subscription : subscriptions)
+				subscription.post(snapshot);
+		}
+	}
+
+	private void dispatch(DockEvent event) {
 		// Fire generic event listeners
+		Consumer<DockEventListener> eventDelivery = l -> l.onDockEvent(event);
 		for (DockEventListener listener : eventListeners)
-			listener.onDockEvent(event);
+			deliver(listener, event, eventDelivery);
 
 		// Fire specific listeners
 		switch (event) {
@@ -40,18 +155,21 @@ public void fire(DockEvent event) {
 			case DockEvent.ContainerChildRemoved containerChildRemoved -> {}
 			case DockEvent.ContainerParentChanged containerParentChanged -> {}
 			case DockEvent.DockableAdded dockableAdded -> {
+				// Events delivered at the end of a batch may refer to dockables which have since been removed.
 				Dockable dockable = dockableAdded.dockable();
-				DockablePath path = Objects.requireNonNull(dockable.getPath());
-				for (DockableOpenListener listener : openListeners) {
-					listener.onOpen(path, dockable);
-				}
+				DockablePath path = dockable.getPath();
+				if (path == null)
+					return;
+				Consumer<DockableOpenListener> delivery = l -> l.onOpen(path, dockable);
+				for (DockableOpenListener listener : openListeners)
+					deliver(listener, event, delivery);
 			}
 			case DockEvent.DockableClosing dockableClosing -> {
 				Dockable dockable = dockableClosing.dockable();
 				DockablePath path = Objects.requireNonNull(dockable.getPath());
-				for (DockableCloseListener listener : closeListeners) {
-					listener.onClose(path, dockable);
-				}
+				Consumer<DockableCloseListener> delivery = l -> l.onClose(path, dockable);
+				for (DockableCloseListener listener : closeListeners)
+					deliver(listener, event, delivery);
 			}
 			case DockEvent.DockableParentChanged dockableParentChanged -> {
 				DockContainerLeaf priorParent = dockableParentChanged.priorParent();
@@ -61,23 +179,268 @@ public void fire(DockEvent event) {
 				Dockable dockable = dockableParentChanged.dockable();
 				DockablePath oldPath = priorParent.getPath().withChild(dockable);
 				DockablePath newPath = newParent.getPath().withChild(dockable);
-				for (DockableMoveListener listener : moveListeners) {
-					listener.onMove(oldPath, newPath, dockable);
-				}
+				Consumer<DockableMoveListener> delivery = l -> l.onMove(oldPath, newPath, dockable);
+				for (DockableMoveListener listener : moveListeners)
+					deliver(listener, event, delivery);
 			}
 			case DockEvent.DockableRemoved dockableRemoved -> {}
 			case DockEvent.DockableSelected dockableSelected -> {
 				Dockable dockable = dockableSelected.dockable();
-				DockablePath path = Objects.requireNonNull(dockable.getPath());
-				for (DockableSelectListener listener : selectListeners) {
-					listener.onSelect(path, dockable);
-				}
+				DockablePath path = dockable.getPath();
+				if (path == null)
+					return;
+				Consumer<DockableSelectListener> delivery = l -> l.onSelect(path, dockable);
+				for (DockableSelectListener listener : selectListeners)
+					deliver(listener, event, delivery);
 			}
 			case DockEvent.RootContainerAdded rootContainerAdded -> {}
 			case DockEvent.RootContainerRemoved rootContainerRemoved -> {}
+			case DockEvent.LayoutApplied layoutApplied -> {}
 		}
 	}
 
+	/**
+	 * Delivers an event to a single listener, isolating failures and measuring the listener's time when needed.
+	 *
+	 * @param listener
+	 * 		Listener to deliver to.
+	 * @param event
+	 * 		Event being delivered, for reporting.
+	 * @param delivery
+	 * 		Action invoking the listener.
+	 * @param <L>
+	 * 		Listener type.
+	 */
+	private <L> void deliver(L listener, Object event, Consumer<L> delivery) {
+		BentoMetrics metrics = this.metrics;
+		SlowListenerHandler slowHandler = slowListenerHandler;
+		boolean timed = metrics.isEnabled() || slowHandler != null;
+		long start = timed ? System.nanoTime() : 0;
+		try {
+			delivery.accept(listener);
+		} catch (Throwable t) {
+			errorHandler.onListenerError(listener, event, t);
+		}
+		if (timed) {
+			long elapsed = System.nanoTime() - start;
+			if (metrics.isEnabled())
+				metrics.recordTime(BentoMetrics.EVENT_LISTENER, listener.getClass(), elapsed);
+			if (slowHandler != null && elapsed >= slowListenerThresholdNanos)
+				slowHandler.onSlowListener(listener, event, elapsed);
+		}
+	}
+
+	/**
+	 * Called by subscriptions on their executor.
+	 *
+	 * @param listener
+	 * 		Listener to deliver to.
+	 * @param snapshot
+	 * 		Event to deliver.
+	 */
+	void deliverSnapshot(DockEventSnapshotListener listener, DockEventSnapshot snapshot) {
+		deliver(listener, snapshot, l -> l.onDockEvent(snapshot));
+	}
+
+	/**
+	 * @return Instrumentation for event dispatch.
+	 */
+	public BentoMetrics getMetrics() {
+		return metrics;
+	}
+
+	/**
+	 * Typically assigned via {@link software.coley.bentofx.Bento#setMetrics(BentoMetrics)}.
+	 *
+	 * @param metrics
+	 * 		Instrumentation for event dispatch.
+	 *        {@code null} to disable instrumentation.
+	 */
+	public void setMetrics(@Nullable BentoMetrics metrics) {
+		if (metrics == null)
+			metrics = BentoMetrics.NONE;
+		this.metrics = metrics;
+	}
+
+	/**
+	 * @return Handler for exceptions thrown by listeners.
+	 * By default exceptions are passed to the {@link Thread#getUncaughtExceptionHandler() uncaught exception handler}
+	 * of the thread that ran the listener.
+	 */
+	public ListenerErrorHandler getErrorHandler() {
+		return errorHandler;
+	}
+
+	/**
+	 * @param errorHandler
+	 * 		Handler for exceptions thrown by listeners.
+	 *        {@code null} to use the default handler.
+	 */
+	public void setErrorHandler(@Nullable ListenerErrorHandler errorHandler) {
+		if (errorHandler == null)
+			errorHandler = DEFAULT_ERROR_HANDLER;
+		this.errorHandler = errorHandler;
+	}
+
+	/**
+	 * @return Time a listener may take to handle an event before it is reported to the {@link #getSlowListenerHandler() slow listener handler}.
+	 * {@code null} when slow listener detection is disabled.
+	 */
+	@Nullable
+	public Duration getSlowListenerThreshold() {
+		return slowListenerThreshold;
+	}
+
+	/**
+	 * @return Handler for listeners that take longer than the {@link #getSlowListenerThreshold() threshold} to handle an event.
+	 * {@code null} when slow listener detection is disabled.
+	 */
+	@Nullable
+	public SlowListenerHandler getSlowListenerHandler() {
+		return slowListenerHandler;
+	}
+
+	/**
+	 * Enables timing of each listener, reporting those that take longer than the given threshold.
+	 *
+	 * @param threshold
+	 * 		Time a listener may take to handle an event before it is reported.
+	 * @param handler
+	 * 		Handler to report slow listeners to.
+	 */
+	public void setSlowListenerHandler(Duration threshold, SlowListenerHandler handler) {
+		this.slowListenerThreshold = threshold;
+		this.slowListenerThresholdNanos = toNanos(threshold);
+		this.slowListenerHandler = handler;
+	}
+
+	/**
+	 * @param duration
+	 * 		Some duration, which may be a fraction of a millisecond.
+	 *
+	 * @return Duration in whole nanoseconds, rounded to the nearest nanosecond.
+	 * Indefinite durations, and unknown durations, are treated as never being reached.
+	 */
+	private static long toNanos(Duration duration) {
+		if (duration.isIndefinite() || duration.isUnknown())
+			return Long.MAX_VALUE;
+		double nanos = duration.toMillis() * 1_000_000D;
+		return nanos >= Long.MAX_VALUE ? Long.MAX_VALUE : Math.max(0, Math.round(nanos));
+	}
+
+	/**
+	 * Disables slow listener detection.
+	 */
+	public void clearSlowListenerHandler() {
+		slowListenerHandler = null;
+		slowListenerThreshold = null;
+		slowListenerThresholdNanos = Long.MAX_VALUE;
+	}
+
+	/**
+	 * @return Default executor that delivers events to async listeners.
+	 * By default, each delivery runs on its own virtual thread.
+	 */
+	public Executor getAsyncExecutor() {
+		Executor executor = asyncExecutor;
+		if (executor == null) {
+			ThreadFactory factory = Thread.ofVirtual().name("bento-event-", 0).factory();
+			executor = asyncExecutor = Executors.newThreadPerTaskExecutor(factory);
+		}
+		return executor;
+	}
+
+	/**
+	 * Only affects listeners subscribed after this is set.
+	 *
+	 * @param asyncExecutor
+	 * 		Default executor that delivers events to async listeners.
+	 *        {@code null} to use the default virtual thread executor.
+	 */
+	public void setAsyncExecutor(@Nullable Executor asyncExecutor) {
+		this.asyncExecutor = asyncExecutor;
+	}
+
+	/**
+	 * @return Async event listener subscriptions.
+	 */
+	public List<EventSubscription> getSubscriptions() {
+		return Collections.unmodifiableList(subscriptions);
+	}
+
+	/**
+	 * @return Async event listeners.
+	 */
+	public List<DockEventSnapshotListener> getAsyncEventListeners() {
+		return subscriptions.stream().map(EventSubscription::getListener).toList();
+	}
+
+	/**
+	 * Subscribes a listener to receive events on the {@link #getAsyncExecutor() default async executor}.
+	 *
+	 * @param listener
+	 * 		Async event listener to add.
+	 *
+	 * @return Subscription handle, which can be closed to remove the listener.
+	 *
+	 * @see #subscribeAsync(DockEventSnapshotListener, Executor)
+	 */
+	public EventSubscription subscribeAsync(DockEventSnapshotListener listener) {
+		return subscribeAsync(listener, getAsyncExecutor());
+	}
+
+	/**
+	 * Subscribes a listener to receive an immutable {@link DockEventSnapshot} of each event on the given executor,
+	 * so the FX thread never waits on it.
+	 * <p/>
+	 * Events are always delivered to the listener in the order they were fired, one at a time, regardless of the executor.
+	 * A single-threaded executor shared between listeners additionally orders delivery across those listeners.
+	 *
+	 * @param listener
+	 * 		Async event listener to add.
+	 * @param executor
+	 * 		Executor to deliver events on.
+	 *
+	 * @return Subscription handle, which can be closed to remove the listener.
+	 */
+	public EventSubscription subscribeAsync(DockEventSnapshotListener listener, Executor executor) {
+		EventSubscription subscription = new EventSubscription(this, listener, executor);
+		subscriptions.add(subscription);
+		return subscription;
+	}
+
+	/**
+	 * @param listener
+	 * 		Async event listener to add.
+	 *
+	 * @see #subscribeAsync(DockEventSnapshotListener)
+	 */
+	public void addAsyncEventListener(DockEventSnapshotListener listener) {
+		subscribeAsync(listener);
+	}
+
+	/**
+	 * @param listener
+	 * 		Async event listener to remove.
+	 */
+	public boolean removeAsyncEventListener(DockEventSnapshotListener listener) {
+		for (EventSubscription subscription : subscriptions) {
+			if (subscription.getListener() == listener) {
+				subscription.close();
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * @param subscription
+	 * 		Subscription to remove.
+	 */
+	void removeSubscription(EventSubscription subscription) {
+		subscriptions.remove(subscription);
+	}
+
 	/**
 	 * @return Generic event listeners.
 	 */
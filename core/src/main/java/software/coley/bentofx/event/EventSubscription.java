@@ -0,0 +1,131 @@
+package software.coley.bentofx.event;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Handle for a {@link DockEventSnapshotListener} subscribed to an {@link EventBus}.
+ * <p/>
+ * Events are queued per subscription and drained by at most one task at a time on the subscription's executor,
+ * so the listener always receives events in the order they were fired, and never concurrently with itself.
+ * Different subscriptions are drained independently of each other.
+ *
+ * @author Matt Coley
+ * @see EventBus#subscribeAsync(DockEventSnapshotListener, Executor)
+ */
+public final class EventSubscription implements AutoCloseable {
+	private final Queue<DockEventSnapshot> queue = new ConcurrentLinkedQueue<>();
+	private final AtomicBoolean draining = new AtomicBoolean();
+	private final EventBus bus;
+	private final DockEventSnapshotListener listener;
+	private final Executor executor;
+	private volatile boolean closed;
+
+	/**
+	 * @param bus
+	 * 		Bus the subscription belongs to.
+	 * @param listener
+	 * 		Subscribed listener.
+	 * @param executor
+	 * 		Executor to deliver events on.
+	 */
+	EventSubscription(EventBus bus, DockEventSnapshotListener listener, Executor executor) {
+		this.bus = bus;
+		this.listener = listener;
+		this.executor = executor;
+	}
+
+	/**
+	 * @return Subscribed listener.
+	 */
+	public DockEventSnapshotListener getListener() {
+		return listener;
+	}
+
+	/**
+	 * @return Executor events are delivered on.
+	 */
+	public Executor getExecutor() {
+		return executor;
+	}
+
+	/**
+	 * @return Number of events queued but not yet delivered.
+	 */
+	public int getPendingCount() {
+		return queue.size();
+	}
+
+	/**
+	 * @return {@code true} when this subscription has been closed and no longer receives events.
+	 */
+	public boolean isClosed() {
+		return closed;
+	}
+
+	/**
+	 * Removes the listener from the bus. Any queued events which have not yet been delivered are discarded.
+	 */
+	@Override
+	public void close() {
+		if (closed)
+			return;
+		closed = true;
+		queue.clear();
+		bus.removeSubscription(this);
+	}
+
+	/**
+	 * @param snapshot
+	 * 		Event to queue for delivery.
+	 */
+	void post(DockEventSnapshot snapshot) {
+		if (closed)
+			return;
+		queue.add(snapshot);
+		scheduleDrain(snapshot);
+	}
+
+	/**
+	 * Rejections are reported to the bus's {@link EventBus#getErrorHandler() error handler} rather than thrown,
+	 * so that they do not propagate out of {@link EventBus#fire(DockEvent)} to the code changing the layout,
+	 * or prevent delivery to other subscriptions.
+	 *
+	 * @param snapshot
+	 * 		Event which prompted the drain, for reporting.
+	 */
+	private void scheduleDrain(DockEventSnapshot snapshot) {
+		if (!draining.compareAndSet(false, true))
+			return;
+		try {
+			executor.execute(this::drain);
+		} catch (RejectedExecutionException ex) {
+			draining.set(false);
+			bus.getErrorHandler().onListenerError(listener, snapshot, ex);
+
+			// A shut down executor will never accept the events, so stop queueing them.
+			// Otherwise allow a later event to try again, should the executor start accepting tasks.
+			if (executor instanceof ExecutorService service && service.isShutdown())
+				close();
+		}
+	}
+
+	private void drain() {
+		try {
+			DockEventSnapshot snapshot;
+			while (!closed && (snapshot = queue.poll()) != null)
+				bus.deliverSnapshot(listener, snapshot);
+		} finally {
+			draining.set(false);
+
+			// An event may have been queued after our last poll, but before we cleared the flag.
+			DockEventSnapshot next = queue.peek();
+			if (!closed && next != null)
+				scheduleDrain(next);
+		}
+	}
+}
@@ -0,0 +1,22 @@
+package software.coley.bentofx.event;
+
+/**
+ * Handler invoked when an event listener throws an exception.
+ * Dispatch of the event to the remaining listeners continues after the handler returns.
+ *
+ * @author Matt Coley
+ */
+public interface ListenerErrorHandler {
+	/**
+	 * Called on the thread that ran the listener.
+	 *
+	 * @param listener
+	 * 		The failing listener.
+	 * @param event
+	 * 		The event the listener was handling.
+	 * 		Either a {@link DockEvent}, or a {@link DockEventSnapshot} for async listeners.
+	 * @param error
+	 * 		Exception thrown by the listener.
+	 */
+	void onListenerError(Object listener, Object event, Throwable error);
+}
@@ -0,0 +1,21 @@
+package software.coley.bentofx.event;
+
+/**
+ * Handler invoked when an event listener takes longer than {@link EventBus#getSlowListenerThreshold()} to handle an event.
+ *
+ * @author Matt Coley
+ */
+public interface SlowListenerHandler {
+	/**
+	 * Called on the thread that ran the listener, after the listener has returned.
+	 *
+	 * @param listener
+	 * 		The slow listener.
+	 * @param event
+	 * 		The event the listener was handling.
+	 * 		Either a {@link DockEvent}, or a {@link DockEventSnapshot} for async listeners.
+	 * @param nanos
+	 * 		Time the listener took, in nanoseconds.
+	 */
+	void onSlowListener(Object listener, Object event, long nanos);
+}
@@ -0,0 +1,50 @@
+package software.coley.bentofx.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import software.coley.bentofx.control.canvas.PixelCanvas;
+
+/**
+ * Flight recorder event for {@link PixelCanvas#commit()} uploading its buffer to the display image.
+ * Commits that are skipped because nothing changed are not recorded.
+ *
+ * @author Matt Coley
+ */
+@Name("software.coley.bentofx.CanvasCommit")
+@Label("Pixel Canvas Commit")
+@Category({"BentoFX", "Rendering"})
+@Description("Upload of a pixel canvas buffer to its display image")
+public class CanvasCommitEvent extends Event {
+	@Label("Width")
+	public int width;
+
+	@Label("Height")
+	public int height;
+
+	@Label("Bytes")
+	@DataAmount
+	public long bytes;
+
+	/**
+	 * Commits the event with the given details, if enabled.
+	 *
+	 * @param width
+	 * 		Uploaded image width.
+	 * @param height
+	 * 		Uploaded image height.
+	 * @param bytes
+	 * 		Uploaded byte count.
+	 */
+	public void complete(int width, int height, long bytes) {
+		if (shouldCommit()) {
+			this.width = width;
+			this.height = height;
+			this.bytes = bytes;
+			commit();
+		}
+	}
+}
@@ -0,0 +1,50 @@
+package software.coley.bentofx.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import org.jspecify.annotations.Nullable;
+import software.coley.bentofx.control.Header;
+import software.coley.bentofx.util.DragDropTarget;
+
+/**
+ * Flight recorder event spanning the drag-n-drop of a {@link Header}, from the drag being detected to its completion.
+ *
+ * @author Matt Coley
+ */
+@Name("software.coley.bentofx.DragGesture")
+@Label("Dock Drag Gesture")
+@Category({"BentoFX", "Drag and Drop"})
+@Description("Drag-n-drop of a dockable header, from drag detection to completion")
+public class DragGestureEvent extends Event {
+	/** Target type when the drag completed without any target accepting the drop. */
+	public static final String TARGET_NONE = "NONE";
+
+	@Label("Dockable")
+	@Description("Identifier of the dragged dockable")
+	public @Nullable String dockable;
+
+	@Label("Source Container")
+	@Description("Identifier of the container the dockable was dragged from")
+	public @Nullable String sourceContainer;
+
+	@Label("Target Type")
+	@Description("Name of the DragDropTarget type the dockable was dropped on, or NONE")
+	public @Nullable String targetType;
+
+	/**
+	 * Ends the event and commits it with the given target, if enabled.
+	 *
+	 * @param target
+	 * 		Completed drop target type, or {@code null} if no target accepted the drop.
+	 */
+	public void complete(@Nullable DragDropTarget target) {
+		end();
+		if (shouldCommit()) {
+			targetType = target == null ? TARGET_NONE : target.name();
+			commit();
+		}
+	}
+}
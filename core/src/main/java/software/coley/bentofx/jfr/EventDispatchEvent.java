@@ -0,0 +1,37 @@
+package software.coley.bentofx.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import org.jspecify.annotations.Nullable;
+import software.coley.bentofx.event.DockEvent;
+import software.coley.bentofx.event.EventBus;
+
+/**
+ * Flight recorder event for {@link EventBus#fire(DockEvent)} dispatching an event to all listeners.
+ *
+ * @author Matt Coley
+ */
+@Name("software.coley.bentofx.EventDispatch")
+@Label("Dock Event Dispatch")
+@Category({"BentoFX", "Events"})
+@Description("Dispatch of a dock event to all listeners")
+public class EventDispatchEvent extends Event {
+	@Label("Event Type")
+	public @Nullable String eventType;
+
+	/**
+	 * Commits the event with the given details, if enabled.
+	 *
+	 * @param event
+	 * 		Dispatched event.
+	 */
+	public void complete(DockEvent event) {
+		if (shouldCommit()) {
+			eventType = event.getClass().getSimpleName();
+			commit();
+		}
+	}
+}
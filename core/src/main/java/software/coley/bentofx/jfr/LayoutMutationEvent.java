@@ -0,0 +1,67 @@
+package software.coley.bentofx.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import org.jspecify.annotations.Nullable;
+import software.coley.bentofx.Identifiable;
+import software.coley.bentofx.layout.container.DockContainerBranch;
+import software.coley.bentofx.layout.container.DockContainerLeaf;
+
+/**
+ * Flight recorder event for a structural change to a {@link DockContainerBranch} or {@link DockContainerLeaf}.
+ * <p/>
+ * Mutations which cascade, such as a removal that prunes empty parents, are recorded as nested events.
+ *
+ * @author Matt Coley
+ */
+@Name("software.coley.bentofx.LayoutMutation")
+@Label("Dock Layout Mutation")
+@Category({"BentoFX", "Layout"})
+@Description("Structural change to a dock container")
+public class LayoutMutationEvent extends Event {
+	public static final String ADD_CONTAINER = "add-container";
+	public static final String REPLACE_CONTAINER = "replace-container";
+	public static final String REMOVE_CONTAINER = "remove-container";
+	public static final String ADD_DOCKABLE = "add-dockable";
+	public static final String REMOVE_DOCKABLE = "remove-dockable";
+
+	@Label("Operation")
+	public @Nullable String operation;
+
+	@Label("Container")
+	@Description("Identifier of the mutated container")
+	public @Nullable String container;
+
+	@Label("Child")
+	@Description("Identifier of the added, removed or replacing child container or dockable")
+	public @Nullable String child;
+
+	@Label("Child Count")
+	@Description("Number of children in the container after the mutation")
+	public int childCount;
+
+	/**
+	 * Commits the event with the given details, if enabled.
+	 *
+	 * @param operation
+	 * 		Mutation operation name.
+	 * @param container
+	 * 		Mutated container.
+	 * @param child
+	 * 		Child added, removed or replacing another.
+	 * @param childCount
+	 * 		Number of children in the container after the mutation.
+	 */
+	public void complete(String operation, Identifiable container, Identifiable child, int childCount) {
+		if (shouldCommit()) {
+			this.operation = operation;
+			this.container = container.getIdentifier();
+			this.child = child.getIdentifier();
+			this.childCount = childCount;
+			commit();
+		}
+	}
+}
@@ -1,5 +1,7 @@
 package software.coley.bentofx.layout.container;
 
+import javafx.animation.Animation;
+import javafx.animation.PauseTransition;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.css.Selector;
@@ -7,16 +9,24 @@
 import javafx.geometry.Side;
 import javafx.scene.Node;
 import javafx.scene.control.SplitPane;
+import javafx.scene.input.MouseButton;
+import javafx.scene.input.MouseEvent;
+import javafx.util.Duration;
 import org.jspecify.annotations.Nullable;
 import software.coley.bentofx.Bento;
 import software.coley.bentofx.Identifiable;
+import software.coley.bentofx.control.ContentWrapper;
+import software.coley.bentofx.control.FrozenContentMode;
 import software.coley.bentofx.dockable.Dockable;
 import software.coley.bentofx.event.DockEvent;
+import software.coley.bentofx.jfr.LayoutMutationEvent;
 import software.coley.bentofx.layout.DockContainer;
+import software.coley.bentofx.search.DockTraversal;
 import software.coley.bentofx.search.SearchVisitor;
 import software.coley.bentofx.util.BentoUtils;
 
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 
 /**
@@ -32,7 +42,14 @@
 	private final String identifier;
 	private @Nullable List<Runnable> queue;
 	private @Nullable DockContainerBranch parent;
+	private @Nullable List<Dockable> dockablesCache;
+	private int dockableCount = -1;
+	private long dockablesVersion;
+	private @Nullable List<ContentWrapper> frozenWrappers;
+	private long lastFrozenRefresh;
+	private @Nullable PauseTransition frozenRefreshTimer;
 	private boolean pruneWhenEmpty = true;
+	private final LayoutThrottle layoutThrottle;
 
 	/**
 	 * @param bento
@@ -43,8 +60,14 @@
 	public DockContainerBranch(Bento bento, String identifier) {
 		this.bento = bento;
 		this.identifier = identifier;
+		this.layoutThrottle = new LayoutThrottle(this, bento.controlsBuilding().getLayoutThrottle());
 
 		getStyleClass().addAll("bento", "container", "container-branch");
+
+		// Handle swapping content for snapshots while dividers are dragged.
+		addEventFilter(MouseEvent.MOUSE_PRESSED, this::onDividerPressed);
+		addEventFilter(MouseEvent.MOUSE_DRAGGED, e -> scheduleFrozenRefresh());
+		addEventFilter(MouseEvent.MOUSE_RELEASED, e -> thawContent());
 	}
 
 	@Override
@@ -121,12 +144,17 @@ public boolean addContainer(int index, DockContainer container) {
 		if (childContainers.contains(container))
 			return false;
 
+		LayoutMutationEvent mutation = new LayoutMutationEvent();
+		mutation.begin();
+
 		childContainers.add(container);
 
 		container.setParentContainer(this);
 		getItems().add(index, container.asRegion());
+		invalidateDockables();
 
 		bento.events().fire(new DockEvent.ContainerChildAdded(this, container));
+		mutation.complete(LayoutMutationEvent.ADD_CONTAINER, this, container, childContainers.size());
 		return true;
 	}
 
@@ -140,6 +168,9 @@ public boolean addContainer(int index, DockContainer container) {
 	 */
 	public boolean replaceContainer(DockContainer child, DockContainer replacement) {
 		if (childContainers.contains(child)) {
+			LayoutMutationEvent mutation = new LayoutMutationEvent();
+			mutation.begin();
+
 			child.removeAsParentContainer(this);
 
 			int i = childContainers.indexOf(child);
@@ -149,9 +180,11 @@ public boolean replaceContainer(DockContainer child, DockContainer replacement)
 			double[] dividers = getDividerPositions(); // Cache existing divider positions
 			getItems().set(i, replacement.asRegion());
 			setDividerPositions(dividers); // Set dividers to prior positions (replace operation resets positions)
+			invalidateDockables();
 
 			bento.events().fire(new DockEvent.ContainerChildRemoved(this, child));
 			bento.events().fire(new DockEvent.ContainerChildAdded(this, replacement));
+			mutation.complete(LayoutMutationEvent.REPLACE_CONTAINER, this, replacement, childContainers.size());
 			return true;
 		}
 		return false;
@@ -164,11 +197,15 @@ public boolean replaceContainer(DockContainer child, DockContainer replacement)
 	 * @return {@code true} when removed.
 	 */
 	public boolean removeContainer(DockContainer child) {
+		LayoutMutationEvent mutation = new LayoutMutationEvent();
+		mutation.begin();
 		if (childContainers.remove(child)) {
 			getItems().remove(child.asRegion());
 			child.removeAsParentContainer(this);
+			invalidateDockables();
 
 			bento.events().fire(new DockEvent.ContainerChildRemoved(this, child));
+			mutation.complete(LayoutMutationEvent.REMOVE_CONTAINER, this, child, childContainers.size());
 
 			// Propagate scene graph simplification upwards.
 			//  - Empty branches are pruned.
@@ -427,11 +464,59 @@ public ObservableList<DockContainer> getChildContainers() {
 		return childContainersView;
 	}
 
+	/**
+	 * The aggregate is cached until a dockable or container is added to or removed from this container's subtree,
+	 * so repeated calls do not walk the subtree.
+	 *
+	 * @return Unmodifiable list of all dockables within this container and its children.
+	 */
 	@Override
 	public List<Dockable> getDockables() {
-		return childContainers.stream()
-				.flatMap(c -> c.getDockables().stream())
-				.toList();
+		List<Dockable> dockables = dockablesCache;
+		if (dockables == null) {
+			List<Dockable> aggregate = new ArrayList<>();
+			for (DockContainer container : childContainers)
+				aggregate.addAll(container.getDockables());
+			dockables = dockablesCache = List.copyOf(aggregate);
+			dockableCount = dockables.size();
+		}
+		return dockables;
+	}
+
+	/**
+	 * @return Number of dockables within this container and its children.
+	 */
+	public int getDockableCount() {
+		int count = dockableCount;
+		if (count < 0) {
+			count = 0;
+			for (DockContainer container : childContainers)
+				count += container instanceof DockContainerBranch branch ?
+						branch.getDockableCount() : container.getDockables().size();
+			dockableCount = count;
+		}
+		return count;
+	}
+
+	/**
+	 * @return Version stamp of the dockables within this container and its children.
+	 * Changes whenever a dockable or container is added to or removed from the subtree.
+	 */
+	public long getDockablesVersion() {
+		return dockablesVersion;
+	}
+
+	/**
+	 * Discards the cached dockable aggregate of this container and all of its parents.
+	 */
+	void invalidateDockables() {
+		DockContainerBranch branch = this;
+		while (branch != null) {
+			branch.dockablesCache = null;
+			branch.dockableCount = -1;
+			branch.dockablesVersion++;
+			branch = branch.parent;
+		}
 	}
 
 	@Override
@@ -487,6 +572,125 @@ public boolean closeDockable(Dockable dockable) {
 		return false;
 	}
 
+	/**
+	 * Closes all dockables within this container and its children, without first collecting them into a list.
+	 * Dockables which are not closable, or have their closure cancelled, remain.
+	 *
+	 * @return Number of dockables closed.
+	 */
+	public int closeAllDockables() {
+		int closed = 0;
+		Iterator<DockContainerLeaf> leaves = DockTraversal.leaves(List.of(this));
+		while (leaves.hasNext()) {
+			DockContainerLeaf leaf = leaves.next();
+			List<Dockable> dockables = leaf.getDockables();
+
+			// Close from the end so that removals do not shift the remaining dockables.
+			for (int i = dockables.size() - 1; i >= 0; i--)
+				if (i < dockables.size() && leaf.closeDockable(dockables.get(i)))
+					closed++;
+		}
+		return closed;
+	}
+
+	private void onDividerPressed(MouseEvent e) {
+		FrozenContentMode mode = bento.controlsBuilding().getDividerDragFreezeMode();
+		if (mode == null || e.getButton() != MouseButton.PRIMARY)
+			return;
+
+		// Find which of our dividers was pressed, if any. Dividers of nested branches are handled by those branches.
+		Node node = e.getPickResult().getIntersectedNode();
+		while (node != null && node.getParent() != this)
+			node = node.getParent();
+		if (node == null || !DIVIDER_SELECTOR.applies(node))
+			return;
+		List<Node> dividers = getChildren().stream().filter(DIVIDER_SELECTOR::applies).toList();
+		int i = dividers.indexOf(node);
+		if (i < 0 || i + 1 >= childContainers.size())
+			return;
+
+		// Only the containers on either side of the divider are resized.
+		thawContent();
+		List<ContentWrapper> wrappers = new ArrayList<>();
+		Iterator<DockContainerLeaf> leaves = DockTraversal.leaves(List.of(childContainers.get(i), childContainers.get(i + 1)));
+		while (leaves.hasNext()) {
+			ContentWrapper wrapper = leaves.next().getHeaderPane().getContentWrapper();
+			if (wrapper.freezeContent(mode))
+				wrappers.add(wrapper);
+		}
+		frozenWrappers = wrappers;
+		lastFrozenRefresh = System.nanoTime();
+	}
+
+	/**
+	 * Schedules refreshing the frozen content snapshots for once the refresh interval has passed.
+	 * Refreshing lays out and snapshots the content, so it is kept out of the drag event handling.
+	 */
+	private void scheduleFrozenRefresh() {
+		Duration interval = bento.controlsBuilding().getDividerDragRefreshInterval();
+		if (interval == null || frozenWrappers == null)
+			return;
+
+		PauseTransition timer = frozenRefreshTimer;
+		if (timer == null) {
+			timer = frozenRefreshTimer = new PauseTransition();
+			timer.setOnFinished(e -> refreshFrozenContent());
+		} else if (timer.getStatus() == Animation.Status.RUNNING) {
+			return;
+		}
+
+		// A zero duration would finish immediately within this event, so wait at least until the next pulse.
+		double elapsedMillis = (System.nanoTime() - lastFrozenRefresh) / 1_000_000.0;
+		timer.setDuration(Duration.millis(Math.max(1, interval.toMillis() - elapsedMillis)));
+		timer.playFromStart();
+	}
+
+	private void refreshFrozenContent() {
+		List<ContentWrapper> wrappers = frozenWrappers;
+		if (wrappers == null)
+			return;
+		lastFrozenRefresh = System.nanoTime();
+
+		FrozenContentMode mode = bento.controlsBuilding().getDividerDragFreezeMode();
+		for (ContentWrapper wrapper : wrappers) {
+			wrapper.thawContent();
+			if (mode != null) {
+				wrapper.layout();
+				wrapper.freezeContent(mode);
+			}
+		}
+	}
+
+	private void thawContent() {
+		if (frozenRefreshTimer != null)
+			frozenRefreshTimer.stop();
+		List<ContentWrapper> wrappers = frozenWrappers;
+		if (wrappers != null) {
+			frozenWrappers = null;
+			wrappers.forEach(ContentWrapper::thawContent);
+		}
+	}
+
+	/**
+	 * @return Maximum number of times per second this container lays out its children while being resized.
+	 * {@code 0} when not throttled.
+	 */
+	public double getLayoutThrottle() {
+		return layoutThrottle.getRate();
+	}
+
+	/**
+	 * While this container is being resized, such as by a window resize or divider drag, laying out its children
+	 * is limited to the given rate. The final size is always laid out once resizing stops.
+	 *
+	 * @param rate
+	 * 		Maximum number of times per second this container lays out its children while being resized.
+	 *        {@code 0} to not throttle.
+	 */
+	public void setLayoutThrottle(double rate) {
+		layoutThrottle.setRate(rate);
+	}
+
 	@Override
 	public boolean doPruneWhenEmpty() {
 		return pruneWhenEmpty;
@@ -509,6 +713,9 @@ public boolean matchesIdentity(Identifiable other) {
 
 	@Override
 	protected void layoutChildren() {
+		if (layoutThrottle.deferLayout())
+			return;
+
 		super.layoutChildren();
 
 		if (queue != null) {
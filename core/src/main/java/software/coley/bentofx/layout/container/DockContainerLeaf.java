@@ -1,5 +1,6 @@
 package software.coley.bentofx.layout.container;
 
+import javafx.animation.PauseTransition;
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.DoubleProperty;
 import javafx.beans.property.ObjectProperty;
@@ -24,9 +25,15 @@
 import software.coley.bentofx.control.canvas.PixelCanvas;
 import software.coley.bentofx.dockable.Dockable;
 import software.coley.bentofx.event.DockEvent;
+import software.coley.bentofx.jfr.LayoutMutationEvent;
 import software.coley.bentofx.layout.DockContainer;
+import software.coley.bentofx.metrics.BentoMetrics;
 import software.coley.bentofx.search.SearchVisitor;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
 import java.util.Objects;
 
 import static software.coley.bentofx.util.BentoStates.PSEUDO_COLLAPSED;
@@ -43,16 +50,23 @@
 	private final ObjectProperty<Side> side = new SimpleObjectProperty<>(Side.TOP);
 	private final ObservableValue<Orientation> orientation = side.map(s -> s.isHorizontal() ? Orientation.HORIZONTAL : Orientation.VERTICAL);
 	private final BooleanProperty collapsed = new SimpleBooleanProperty();
+	private final BooleanProperty detachContentWhenCollapsed = new SimpleBooleanProperty();
 	private final ObjectProperty<DockContainerLeafMenuFactory> menuFactory = new SimpleObjectProperty<>();
 	private final DoubleProperty uncollapsedWidth = new SimpleDoubleProperty();
 	private final DoubleProperty uncollapsedHeight = new SimpleDoubleProperty();
 	private @Nullable BooleanProperty canSplit;
-	private final PixelCanvas canvas;
+	private DockContainerLeafPrefetchPolicy prefetchPolicy = DockContainerLeafPrefetchPolicy.DEFAULT;
+	private @Nullable PauseTransition prefetchTimer;
+	private @Nullable Deque<Dockable> recentlySelected;
+	private @Nullable List<Dockable> prefetching;
+	private final @Nullable PixelCanvas canvas;
 	private final HeaderPane headerPane;
 	private final Bento bento;
 	private final String identifier;
 	private @Nullable DockContainerBranch parent;
 	private boolean pruneWhenEmpty = true;
+	private boolean autoSelect = true;
+	private final LayoutThrottle layoutThrottle;
 
 	/**
 	 * @param bento
@@ -63,20 +77,27 @@
 	public DockContainerLeaf(Bento bento, String identifier) {
 		this.bento = bento;
 		this.identifier = identifier;
+		this.layoutThrottle = new LayoutThrottle(this, bento.controlsBuilding().getLayoutThrottle());
 		this.headerPane = bento.controlsBuilding().newHeaderPane(this);
 
 		getStyleClass().addAll("bento", "container", "container-leaf");
 
-		// Fit the canvas to the container size
-		canvas = bento.controlsBuilding().newCanvas(this);
-		canvas.setMouseTransparent(true);
-		canvas.prefWidthProperty().bind(widthProperty());
-		canvas.prefHeightProperty().bind(heightProperty());
-
 		uncollapsedWidth.bind(widthProperty());
 		uncollapsedHeight.bind(heightProperty());
 
-		getChildren().addAll(headerPane, canvas);
+		if (bento.controlsBuilding().isSharedCanvas()) {
+			// Hints will be drawn on the canvas owned by our root container.
+			canvas = null;
+			getChildren().add(headerPane);
+		} else {
+			// Fit the canvas to the container size
+			canvas = bento.controlsBuilding().newCanvas(this);
+			canvas.setMouseTransparent(true);
+			canvas.prefWidthProperty().bind(widthProperty());
+			canvas.prefHeightProperty().bind(heightProperty());
+
+			getChildren().addAll(headerPane, canvas);
+		}
 	}
 
 	@Nullable
@@ -132,12 +153,16 @@ public boolean selectDockable(@Nullable Dockable dockable) {
 		// Special case for clearing selection
 		if (dockable == null) {
 			selectedDockable.set(null);
+			cancelPrefetching(List.of());
 			return true;
 		}
 
 		// Selecting some dockable this leaf container contains
 		if (dockables.contains(dockable)) {
 			selectedDockable.set(dockable);
+			if (dockable.hasUnloadedNode())
+				dockable.loadNode();
+			schedulePrefetch(dockable);
 
 			// Then focus the container
 			if (!isFocusWithin()) requestFocus();
@@ -162,15 +187,22 @@ public boolean addDockable(int index, Dockable dockable) {
 		// Bounds check
 		if (index < 0 || index > dockables.size()) return false;
 
+		LayoutMutationEvent mutation = new LayoutMutationEvent();
+		mutation.begin();
+
 		// Update dockable model
 		dockables.add(index, dockable);
 		dockable.setContainer(this);
+		if (parent != null)
+			parent.invalidateDockables();
 
 		// Notify event listeners
 		bento.events().fire(new DockEvent.DockableAdded(this, dockable));
 
 		// If this is the first dockable being added, select it
-		if (dockables.size() == 1) selectDockable(dockable);
+		if (autoSelect && dockables.size() == 1) selectDockable(dockable);
+
+		mutation.complete(LayoutMutationEvent.ADD_DOCKABLE, this, dockable, dockables.size());
 
 		return true;
 	}
@@ -181,14 +213,23 @@ public boolean removeDockable(Dockable dockable) {
 
 		// Update dockable model
 		if (i >= 0) {
+			LayoutMutationEvent mutation = new LayoutMutationEvent();
+			mutation.begin();
+
 			boolean wasSelected = getSelectedDockable() == dockable;
 			dockables.remove(i);
+			if (recentlySelected != null)
+				recentlySelected.remove(dockable);
+			if (prefetching != null)
+				prefetching.remove(dockable);
 			dockable.setContainer(null);
+			if (parent != null)
+				parent.invalidateDockables();
 
 			// If the removed dockable was the selected one, then select
 			// the next available dockable if one is available
 			if (wasSelected) {
-				if (!dockables.isEmpty()) {
+				if (autoSelect && !dockables.isEmpty()) {
 					Dockable nextSourceDockable = dockables.get(Math.min(i, dockables.size() - 1));
 					selectDockable(nextSourceDockable);
 				} else {
@@ -198,6 +239,7 @@ public boolean removeDockable(Dockable dockable) {
 
 			// Notify event listeners
 			bento.events().fire(new DockEvent.DockableRemoved(dockable, this));
+			mutation.complete(LayoutMutationEvent.REMOVE_DOCKABLE, this, dockable, dockables.size());
 
 			// Prune from parent layout if we're empty and set to auto-prune.
 			if (doPruneWhenEmpty() && dockables.isEmpty()) removeFromParent();
@@ -219,12 +261,143 @@ public boolean closeDockable(Dockable dockable) {
 			if (event.isCancelled())
 				return false;
 
-			return removeDockable(dockable);
+			if (removeDockable(dockable)) {
+				dockable.cancelNodeLoading();
+				return true;
+			}
+			return false;
 		}
 
 		return false;
 	}
 
+	/**
+	 * @return Policy for warming the lazy content of dockables likely to be selected next.
+	 */
+	public DockContainerLeafPrefetchPolicy getPrefetchPolicy() {
+		return prefetchPolicy;
+	}
+
+	/**
+	 * @param prefetchPolicy
+	 * 		Policy for warming the lazy content of dockables likely to be selected next.
+	 *        {@code null} to use the default policy.
+	 */
+	public void setPrefetchPolicy(@Nullable DockContainerLeafPrefetchPolicy prefetchPolicy) {
+		if (prefetchPolicy == null)
+			prefetchPolicy = DockContainerLeafPrefetchPolicy.DEFAULT;
+		this.prefetchPolicy = prefetchPolicy;
+	}
+
+	/**
+	 * Records the selection, cancels prefetches that are no longer likely to be needed,
+	 * and schedules prefetching for once the selection has settled.
+	 *
+	 * @param selected
+	 * 		Newly selected dockable.
+	 */
+	private void schedulePrefetch(Dockable selected) {
+		DockContainerLeafPrefetchPolicy policy = prefetchPolicy;
+		if (policy.recent() > 0) {
+			if (recentlySelected == null)
+				recentlySelected = new ArrayDeque<>();
+			recentlySelected.remove(selected);
+			recentlySelected.addFirst(selected);
+			while (recentlySelected.size() > policy.recent() + 1)
+				recentlySelected.removeLast();
+		}
+
+		List<Dockable> candidates = policy.isEnabled() ? prefetchCandidates(selected, policy) : List.of();
+		cancelPrefetching(candidates);
+
+		// Only wake up once the selection settles if there is lazy content left to load.
+		if (candidates.stream().noneMatch(Dockable::hasUnloadedNode)) {
+			if (prefetchTimer != null)
+				prefetchTimer.stop();
+			return;
+		}
+
+		if (prefetchTimer == null)
+			prefetchTimer = new PauseTransition();
+		prefetchTimer.setDuration(policy.idleDelay());
+		prefetchTimer.setOnFinished(e -> prefetch(selected));
+		prefetchTimer.playFromStart();
+	}
+
+	private void prefetch(Dockable selected) {
+		if (getSelectedDockable() != selected)
+			return;
+
+		DockContainerLeafPrefetchPolicy policy = prefetchPolicy;
+		int loads = 0;
+		for (Dockable candidate : prefetchCandidates(selected, policy)) {
+			if (loads >= policy.maxLoads())
+				break;
+			if (!candidate.hasUnloadedNode() || candidate.isLoading())
+				continue;
+
+			if (prefetching == null)
+				prefetching = new ArrayList<>();
+			List<Dockable> tracked = prefetching;
+			tracked.add(candidate);
+			candidate.loadNode().whenComplete((node, error) -> tracked.remove(candidate));
+			loads++;
+		}
+	}
+
+	/**
+	 * @param keep
+	 * 		Dockables to continue prefetching.
+	 */
+	private void cancelPrefetching(List<Dockable> keep) {
+		if (prefetchTimer != null)
+			prefetchTimer.stop();
+		if (prefetching == null)
+			return;
+
+		Dockable selected = getSelectedDockable();
+		for (Dockable dockable : List.copyOf(prefetching)) {
+			if (dockable != selected && !keep.contains(dockable)) {
+				prefetching.remove(dockable);
+				dockable.cancelNodeLoading();
+			}
+		}
+	}
+
+	/**
+	 * @param selected
+	 * 		Currently selected dockable.
+	 * @param policy
+	 * 		Policy to follow.
+	 *
+	 * @return Dockables to prefetch, nearest neighbors first, then most recently selected.
+	 */
+	private List<Dockable> prefetchCandidates(Dockable selected, DockContainerLeafPrefetchPolicy policy) {
+		List<Dockable> candidates = new ArrayList<>();
+		int index = dockables.indexOf(selected);
+		if (index >= 0) {
+			for (int offset = 1; offset <= policy.neighbors(); offset++) {
+				if (index + offset < dockables.size())
+					candidates.add(dockables.get(index + offset));
+				if (index - offset >= 0)
+					candidates.add(dockables.get(index - offset));
+			}
+		}
+		if (recentlySelected != null) {
+			int recent = 0;
+			for (Dockable dockable : recentlySelected) {
+				if (recent >= policy.recent())
+					break;
+				if (dockable != selected) {
+					if (!candidates.contains(dockable))
+						candidates.add(dockable);
+					recent++;
+				}
+			}
+		}
+		return candidates;
+	}
+
 	/**
 	 * @param dockable
 	 * 		Some dockable.
@@ -244,6 +417,26 @@ public boolean canReceiveDockable(Dockable dockable, @Nullable Side receivedSide
 		return bento.getDragDropBehavior().canReceiveDockable(this, receivedSide, dockable);
 	}
 
+	/**
+	 * @return Maximum number of times per second this container lays out its children while being resized.
+	 * {@code 0} when not throttled.
+	 */
+	public double getLayoutThrottle() {
+		return layoutThrottle.getRate();
+	}
+
+	/**
+	 * While this container is being resized, such as by a window resize or divider drag, laying out its children
+	 * is limited to the given rate. The final size is always laid out once resizing stops.
+	 *
+	 * @param rate
+	 * 		Maximum number of times per second this container lays out its children while being resized.
+	 *        {@code 0} to not throttle.
+	 */
+	public void setLayoutThrottle(double rate) {
+		layoutThrottle.setRate(rate);
+	}
+
 	@Override
 	public boolean doPruneWhenEmpty() {
 		return pruneWhenEmpty;
@@ -254,6 +447,26 @@ public void setPruneWhenEmpty(boolean pruneWhenEmpty) {
 		this.pruneWhenEmpty = pruneWhenEmpty;
 	}
 
+	/**
+	 * @return {@code true} to select the first dockable added to this container, and to select the next dockable
+	 * when the selected dockable is removed. Otherwise, removing the selected dockable clears the selection.
+	 */
+	public boolean doAutoSelect() {
+		return autoSelect;
+	}
+
+	/**
+	 * Disabling auto-selection avoids {@link Dockable#loadNode() loading} the content of dockables
+	 * which only pass through the selection while the container is being rearranged.
+	 *
+	 * @param autoSelect
+	 *        {@code true} to select the first dockable added to this container, and to select the next dockable
+	 * 		when the selected dockable is removed. Otherwise, removing the selected dockable clears the selection.
+	 */
+	public void setAutoSelect(boolean autoSelect) {
+		this.autoSelect = autoSelect;
+	}
+
 	/**
 	 * @param target
 	 * 		Region to draw as an overlay on this container's canvas.
@@ -269,11 +482,22 @@ public void drawCanvasHint(Region target) {
 	 * 		Side of the region to draw, or {@code null} for the full region.
 	 */
 	public void drawCanvasHint(Region target, @Nullable Side side) {
-		// Compute xy offset when 'target' is not a direct child of this view.
+		// Determine which canvas to draw on. If we do not have our own, we draw on the root's shared canvas.
+		PixelCanvas canvas = this.canvas;
+		Parent canvasOwner = this;
+		if (canvas == null) {
+			DockContainerRootBranch root = getRootContainer();
+			if (root == null)
+				return;
+			canvas = root.claimSharedCanvas(this);
+			canvasOwner = root;
+		}
+
+		// Compute xy offset when 'target' is not a direct child of the canvas owner.
 		double ox = 0;
 		double oy = 0;
 		Parent parent = target.getParent();
-		while (parent != null && parent != this) {
+		while (parent != null && parent != canvasOwner) {
 			ox += parent.getLayoutX();
 			oy += parent.getLayoutY();
 			parent = parent.getParent();
@@ -299,21 +523,53 @@ public void drawCanvasHint(Region target, @Nullable Side side) {
 			case null -> canvas.fillBorderedRect(x, y, w, h, borderWidth, color, borderColor);
 		}
 		canvas.commit();
+
+		BentoMetrics metrics = bento.metrics();
+		if (metrics.isEnabled())
+			metrics.recordValue(BentoMetrics.CANVAS_COMMIT_BYTES, canvas.getLastCommitBytes());
 	}
 
 	/**
 	 * Clear this container's overlay canvas.
+	 * <p/>
+	 * When drawing to a canvas shared by the root container, the canvas is only cleared
+	 * if this container was the last one to draw to it.
 	 */
 	public void clearCanvas() {
-		canvas.clear();
-		canvas.commit();
+		if (canvas != null) {
+			canvas.clear();
+			canvas.commit();
+		} else {
+			DockContainerRootBranch root = getRootContainer();
+			if (root != null)
+				root.releaseSharedCanvas(this);
+		}
 	}
 
 	/**
-	 * @return Overlay canvas.
+	 * @return Overlay canvas. When {@link software.coley.bentofx.building.ControlsBuilding#isSharedCanvas() shared}
+	 * this is the canvas of the root container, or {@code null} when this container is not within a root.
 	 */
+	@Nullable
 	public PixelCanvas getCanvas() {
-		return canvas;
+		if (canvas != null)
+			return canvas;
+		DockContainerRootBranch root = getRootContainer();
+		return root == null ? null : root.getSharedCanvas();
+	}
+
+	/**
+	 * @return Root container this container resides within, or {@code null} if not attached to a root.
+	 */
+	@Nullable
+	private DockContainerRootBranch getRootContainer() {
+		DockContainerBranch branch = parent;
+		while (branch != null) {
+			if (branch instanceof DockContainerRootBranch root)
+				return root;
+			branch = branch.getParentContainer();
+		}
+		return null;
 	}
 
 	/**
@@ -407,6 +663,13 @@ protected double getUncollapsedSize() {
 		};
 	}
 
+	/**
+	 * @return Pane displaying the headers and selected content of this container.
+	 */
+	public HeaderPane getHeaderPane() {
+		return headerPane;
+	}
+
 	/**
 	 * @param dockable
 	 * 		Some dockable.
@@ -472,6 +735,33 @@ public BooleanProperty collapsedProperty() {
 		return collapsed;
 	}
 
+	/**
+	 * @return {@code true} when the content of this container is removed from the scene graph while collapsed.
+	 */
+	public boolean isDetachContentWhenCollapsed() {
+		return detachContentWhenCollapsed.get();
+	}
+
+	/**
+	 * Collapsed content is always hidden, but by default remains in the scene graph where it still takes part
+	 * in CSS passes. Detaching it removes that cost, at the cost of re-applying CSS when the container is expanded.
+	 *
+	 * @param detachContentWhenCollapsed
+	 *        {@code true} to remove the content of this container from the scene graph while collapsed.
+	 */
+	public void setDetachContentWhenCollapsed(boolean detachContentWhenCollapsed) {
+		this.detachContentWhenCollapsed.set(detachContentWhenCollapsed);
+	}
+
+	/**
+	 * @return Content detaching property.
+	 *
+	 * @see #setDetachContentWhenCollapsed(boolean)
+	 */
+	public BooleanProperty detachContentWhenCollapsedProperty() {
+		return detachContentWhenCollapsed;
+	}
+
 	/**
 	 * @return Context menu for this container.
 	 */
@@ -544,6 +834,14 @@ public boolean matchesIdentity(Identifiable other) {
 		return identifier.equals(other.getIdentifier());
 	}
 
+	@Override
+	protected void layoutChildren() {
+		if (layoutThrottle.deferLayout())
+			return;
+
+		super.layoutChildren();
+	}
+
 	@Override
 	public String toString() {
 		return "Container-Leaf:" + getIdentifier();
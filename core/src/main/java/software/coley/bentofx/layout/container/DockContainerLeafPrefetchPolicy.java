@@ -0,0 +1,34 @@
+package software.coley.bentofx.layout.container;
+
+import javafx.util.Duration;
+import software.coley.bentofx.dockable.Dockable;
+
+/**
+ * Policy for warming the {@link Dockable#setLazyNode(java.util.function.Supplier) lazy content} of dockables
+ * in a {@link DockContainerLeaf} that are likely to be selected next.
+ *
+ * @param neighbors
+ * 		Number of dockables on each side of the selected dockable to prefetch.
+ * @param recent
+ * 		Number of most recently selected dockables to prefetch.
+ * @param idleDelay
+ * 		Time the selection must stay unchanged before prefetching begins.
+ * @param maxLoads
+ * 		Maximum number of dockables to prefetch per selection.
+ *
+ * @author Matt Coley
+ * @see DockContainerLeaf#setPrefetchPolicy(DockContainerLeafPrefetchPolicy)
+ */
+public record DockContainerLeafPrefetchPolicy(int neighbors, int recent, Duration idleDelay, int maxLoads) {
+	/** Policy which never prefetches. */
+	public static final DockContainerLeafPrefetchPolicy NONE = new DockContainerLeafPrefetchPolicy(0, 0, Duration.ZERO, 0);
+	/** Policy which prefetches the adjacent dockables and the two most recently selected ones. */
+	public static final DockContainerLeafPrefetchPolicy DEFAULT = new DockContainerLeafPrefetchPolicy(1, 2, Duration.millis(250), 3);
+
+	/**
+	 * @return {@code true} when this policy may prefetch anything.
+	 */
+	public boolean isEnabled() {
+		return maxLoads > 0 && (neighbors > 0 || recent > 0);
+	}
+}
@@ -1,10 +1,13 @@
 package software.coley.bentofx.layout.container;
 
+import javafx.collections.ObservableList;
+import javafx.scene.Node;
 import javafx.scene.Scene;
 import javafx.scene.layout.Region;
 import org.jspecify.annotations.Nullable;
 import software.coley.bentofx.Bento;
 import software.coley.bentofx.control.DragDropStage;
+import software.coley.bentofx.control.canvas.PixelCanvas;
 import software.coley.bentofx.path.DockContainerPath;
 
 import java.util.Collections;
@@ -18,6 +21,8 @@
  */
 public class DockContainerRootBranch extends DockContainerBranch {
 	private final DockContainerPath path = new DockContainerPath(Collections.singletonList(this));
+	private @Nullable PixelCanvas sharedCanvas;
+	private @Nullable DockContainerLeaf sharedCanvasOwner;
 
 	/**
 	 * @param bento
@@ -64,9 +69,71 @@ public void setParentContainer(DockContainerBranch parent) {
 		throw new IllegalStateException("Root should not have a parent container assigned");
 	}
 
-
 	@Override
 	public DockContainerPath getPath() {
 		return path;
 	}
+
+	/**
+	 * The shared canvas is overlaid on top of this entire container. Leaves within this root draw
+	 * their hints to it in root coordinates when {@link software.coley.bentofx.building.ControlsBuilding#isSharedCanvas()}
+	 * is enabled. It is created on first access.
+	 *
+	 * @return Overlay canvas shared by all leaves within this root.
+	 */
+	public PixelCanvas getSharedCanvas() {
+		if (sharedCanvas == null) {
+			sharedCanvas = getBento().controlsBuilding().newCanvas(this);
+			sharedCanvas.setMouseTransparent(true);
+			sharedCanvas.setManaged(false);
+
+			// Render above the content and dividers regardless of child order,
+			// as the split-pane skin appends dividers after any existing children.
+			sharedCanvas.setViewOrder(-1);
+			getChildren().add(sharedCanvas);
+			requestLayout();
+		}
+		return sharedCanvas;
+	}
+
+	/**
+	 * @param leaf
+	 * 		Leaf that is about to draw to the shared canvas.
+	 *
+	 * @return Shared canvas to draw on.
+	 */
+	PixelCanvas claimSharedCanvas(DockContainerLeaf leaf) {
+		sharedCanvasOwner = leaf;
+		return getSharedCanvas();
+	}
+
+	/**
+	 * Clears the shared canvas if the given leaf was the last to draw to it.
+	 * This prevents a leaf exiting a drag operation from clearing the hint drawn by the leaf being entered.
+	 *
+	 * @param leaf
+	 * 		Leaf that no longer needs its hint drawn.
+	 */
+	void releaseSharedCanvas(DockContainerLeaf leaf) {
+		if (sharedCanvasOwner == leaf && sharedCanvas != null) {
+			sharedCanvasOwner = null;
+			sharedCanvas.clear();
+			sharedCanvas.commit();
+		}
+	}
+
+	@Override
+	protected void layoutChildren() {
+		super.layoutChildren();
+
+		// The split-pane skin manages our children and clears them when its items are permuted,
+		// so we need to ensure the shared canvas is still present, and that it spans our full bounds.
+		// Its view order keeps it on top, so it is only re-added when missing.
+		if (sharedCanvas != null) {
+			ObservableList<Node> children = getChildren();
+			if (sharedCanvas.getParent() != this)
+				children.add(sharedCanvas);
+			sharedCanvas.resizeRelocate(0, 0, getWidth(), getHeight());
+		}
+	}
 }
@@ -0,0 +1,87 @@
+package software.coley.bentofx.layout.container;
+
+import javafx.animation.Animation;
+import javafx.animation.PauseTransition;
+import javafx.scene.layout.Region;
+import javafx.util.Duration;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Limits how often a container lays out its children while it is being resized.
+ * <p/>
+ * Layout passes where the container size has not changed are never deferred, so structural changes such as
+ * adding children display immediately. Resize passes beyond the rate limit are skipped, and a trailing pass
+ * is scheduled so that the final size is always laid out exactly.
+ *
+ * @author Matt Coley
+ */
+final class LayoutThrottle {
+	private final Region region;
+	private double rate;
+	private long lastLayout;
+	private boolean laidOut;
+	private double lastWidth = -1;
+	private double lastHeight = -1;
+	private @Nullable PauseTransition trailing;
+
+	/**
+	 * @param region
+	 * 		Container to throttle.
+	 * @param rate
+	 * 		Maximum resize layout passes per second, or {@code 0} to not throttle.
+	 */
+	LayoutThrottle(Region region, double rate) {
+		this.region = region;
+		this.rate = rate;
+	}
+
+	/**
+	 * @return Maximum resize layout passes per second, or {@code 0} when not throttled.
+	 */
+	double getRate() {
+		return rate;
+	}
+
+	/**
+	 * @param rate
+	 * 		Maximum resize layout passes per second, or {@code 0} to not throttle.
+	 */
+	void setRate(double rate) {
+		this.rate = Math.max(0, rate);
+		if (this.rate == 0 && trailing != null)
+			trailing.stop();
+	}
+
+	/**
+	 * @return {@code true} when the current layout pass should be skipped.
+	 */
+	boolean deferLayout() {
+		double width = region.getWidth();
+		double height = region.getHeight();
+		if (rate <= 0 || (width == lastWidth && height == lastHeight))
+			return false;
+
+		long now = System.nanoTime();
+		long interval = (long) (1_000_000_000 / rate);
+		long elapsed = now - lastLayout;
+
+		// The nano-time origin is arbitrary, so the first resize pass cannot be compared against an initial time.
+		if (!laidOut || elapsed >= interval) {
+			laidOut = true;
+			lastLayout = now;
+			lastWidth = width;
+			lastHeight = height;
+			return false;
+		}
+
+		if (trailing == null) {
+			trailing = new PauseTransition();
+			trailing.setOnFinished(e -> region.requestLayout());
+		}
+		if (trailing.getStatus() != Animation.Status.RUNNING) {
+			trailing.setDuration(Duration.millis((interval - elapsed) / 1_000_000.0));
+			trailing.playFromStart();
+		}
+		return true;
+	}
+}
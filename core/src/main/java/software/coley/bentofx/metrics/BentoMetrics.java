@@ -0,0 +1,86 @@
+package software.coley.bentofx.metrics;
+
+import software.coley.bentofx.Bento;
+
+/**
+ * Instrumentation hook for timing and counting docking operations.
+ * <p/>
+ * Implementations are assigned via {@link Bento#setMetrics(BentoMetrics)}. The default is {@link #NONE}, which reports
+ * {@link #isEnabled()} as {@code false}. All instrumented call sites check {@link #isEnabled()} before reading the
+ * clock or computing values, so there is no overhead beyond a single check when metrics are disabled.
+ * <p/>
+ * Implementations may be called from any thread, though most operations are recorded on the FX thread.
+ *
+ * @author Matt Coley
+ * @see HistogramMetrics
+ */
+public interface BentoMetrics {
+	/** Metrics implementation that records nothing. */
+	BentoMetrics NONE = new BentoMetrics() {
+		@Override
+		public boolean isEnabled() {
+			return false;
+		}
+
+		@Override
+		public void recordTime(String metric, long nanos) {}
+
+		@Override
+		public void recordValue(String metric, long value) {}
+	};
+	/** Time of looking up a container in {@link software.coley.bentofx.search.SearchHandler}. */
+	String SEARCH_CONTAINER = "search.container";
+	/** Time of looking up a dockable in {@link software.coley.bentofx.search.SearchHandler}. */
+	String SEARCH_DOCKABLE = "search.dockable";
+	/** Time of collecting all dockables in {@link software.coley.bentofx.search.SearchHandler}. */
+	String SEARCH_ALL_DOCKABLES = "search.all-dockables";
+	/** Time of dispatching an event to all listeners. Subject is the event type. */
+	String EVENT_DISPATCH = "event.dispatch";
+	/** Time of a single listener handling an event. Subject is the listener type. */
+	String EVENT_LISTENER = "event.listener";
+	/** Time of creating a {@link software.coley.bentofx.control.Header} in a {@link software.coley.bentofx.control.HeaderPane}. */
+	String HEADER_CREATE = "header.create";
+	/** Time of a {@link software.coley.bentofx.control.LinearItemPane} layout pass. Subject is the pane type. */
+	String LINEAR_LAYOUT = "layout.linear";
+	/** Number of bytes uploaded by a {@link software.coley.bentofx.control.canvas.PixelCanvas} commit. */
+	String CANVAS_COMMIT_BYTES = "canvas.commit-bytes";
+	/** Time of creating a {@link software.coley.bentofx.control.DragDropStage} in {@link software.coley.bentofx.building.StageBuilding}. */
+	String STAGE_CREATE = "stage.create";
+
+	/**
+	 * @return {@code true} when this implementation records anything.
+	 * {@code false} to have call sites skip all measurement work.
+	 */
+	boolean isEnabled();
+
+	/**
+	 * @param metric
+	 * 		Name of the timed operation.
+	 * @param nanos
+	 * 		Duration of the operation, in nanoseconds.
+	 */
+	void recordTime(String metric, long nanos);
+
+	/**
+	 * Records a timed operation that is attributed to some subject type, such as an event or listener type.
+	 * By default the subject is ignored.
+	 *
+	 * @param metric
+	 * 		Name of the timed operation.
+	 * @param subject
+	 * 		Type the operation is attributed to.
+	 * @param nanos
+	 * 		Duration of the operation, in nanoseconds.
+	 */
+	default void recordTime(String metric, Class<?> subject, long nanos) {
+		recordTime(metric, nanos);
+	}
+
+	/**
+	 * @param metric
+	 * 		Name of the measured value.
+	 * @param value
+	 * 		Measured value, such as a byte count.
+	 */
+	void recordValue(String metric, long value);
+}
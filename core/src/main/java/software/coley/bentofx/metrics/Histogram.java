@@ -0,0 +1,95 @@
+package software.coley.bentofx.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread-safe histogram with power-of-two buckets.
+ * <p/>
+ * Bucket {@code i} holds values in the range {@code [2^(i-1), 2^i)}, with bucket {@code 0} holding zero and negative
+ * values. Percentiles are therefore approximate, reporting the upper bound of the bucket they fall in, which is
+ * accurate to within a factor of two. That is enough to tell a 1ms operation from a 100ms one while
+ * keeping recording lock-free and allocation-free.
+ *
+ * @author Matt Coley
+ */
+public class Histogram {
+	private static final int BUCKETS = 64;
+	private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+	private final LongAdder count = new LongAdder();
+	private final LongAdder sum = new LongAdder();
+	private final LongAccumulator max = new LongAccumulator(Math::max, Long.MIN_VALUE);
+
+	/**
+	 * @param value
+	 * 		Value to record.
+	 */
+	public void record(long value) {
+		int bucket = value <= 0 ? 0 : Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(value));
+		buckets.incrementAndGet(bucket);
+		count.increment();
+		sum.add(value);
+		max.accumulate(value);
+	}
+
+	/**
+	 * @return Number of recorded values.
+	 */
+	public long getCount() {
+		return count.sum();
+	}
+
+	/**
+	 * @return Sum of recorded values.
+	 */
+	public long getSum() {
+		return sum.sum();
+	}
+
+	/**
+	 * @return Mean of recorded values, or {@code 0} if none were recorded.
+	 */
+	public double getMean() {
+		long n = getCount();
+		return n == 0 ? 0 : (double) getSum() / n;
+	}
+
+	/**
+	 * @return Largest recorded value, or {@code 0} if none were recorded.
+	 */
+	public long getMax() {
+		return getCount() == 0 ? 0 : max.get();
+	}
+
+	/**
+	 * @param percentile
+	 * 		Percentile in the range of {@code [0, 1]}.
+	 *
+	 * @return Upper bound of the bucket containing the given percentile, or {@code 0} if none were recorded.
+	 */
+	public long getPercentile(double percentile) {
+		long n = getCount();
+		if (n == 0)
+			return 0;
+		long rank = Math.max(1, (long) Math.ceil(percentile * n));
+		long seen = 0;
+		for (int i = 0; i < BUCKETS; i++) {
+			seen += buckets.get(i);
+			if (seen >= rank)
+				return i == 0 ? 0 : Math.min(getMax(), i == BUCKETS - 1 ? Long.MAX_VALUE : (1L << i) - 1);
+		}
+		return getMax();
+	}
+
+	/**
+	 * Clears all recorded values.
+	 */
+	public void reset() {
+		for (int i = 0; i < BUCKETS; i++)
+			buckets.set(i, 0);
+		count.reset();
+		sum.reset();
+		max.reset();
+	}
+}
@@ -0,0 +1,129 @@
+package software.coley.bentofx.metrics;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Metrics implementation that keeps an in-memory {@link Histogram} per metric.
+ * <p/>
+ * Metrics recorded with a subject are kept separately per subject type, named {@code metric[fully.qualified.SubjectType]}.
+ * Use {@link #dump()} to get a summary table of all recorded metrics.
+ *
+ * @author Matt Coley
+ */
+public class HistogramMetrics implements BentoMetrics {
+	private final Map<String, Histogram> histograms = new ConcurrentHashMap<>();
+	private final Map<String, Map<Class<?>, Histogram>> subjectHistograms = new ConcurrentHashMap<>();
+	private final Set<String> valueMetrics = ConcurrentHashMap.newKeySet();
+
+	@Override
+	public boolean isEnabled() {
+		return true;
+	}
+
+	@Override
+	public void recordTime(String metric, long nanos) {
+		histogram(metric).record(nanos);
+	}
+
+	@Override
+	public void recordTime(String metric, Class<?> subject, long nanos) {
+		histogram(metric).record(nanos);
+		subjectHistograms.computeIfAbsent(metric, m -> new ConcurrentHashMap<>())
+				.computeIfAbsent(subject, s -> new Histogram())
+				.record(nanos);
+	}
+
+	@Override
+	public void recordValue(String metric, long value) {
+		if (!valueMetrics.contains(metric))
+			valueMetrics.add(metric);
+		histogram(metric).record(value);
+	}
+
+	/**
+	 * @param metric
+	 * 		Name of a metric.
+	 *
+	 * @return Histogram of the metric. Created if it does not exist.
+	 */
+	public Histogram histogram(String metric) {
+		return histograms.computeIfAbsent(metric, m -> new Histogram());
+	}
+
+	/**
+	 * @param metric
+	 * 		Name of a metric.
+	 *
+	 * @return Map of subject types to their histograms of the metric.
+	 */
+	public Map<Class<?>, Histogram> getSubjectHistograms(String metric) {
+		Map<Class<?>, Histogram> subjects = subjectHistograms.get(metric);
+		return subjects == null ? Map.of() : Map.copyOf(subjects);
+	}
+
+	/**
+	 * @return Sorted map of all metric names to their histograms, including per-subject histograms.
+	 */
+	public Map<String, Histogram> getHistograms() {
+		Map<String, Histogram> map = new TreeMap<>(histograms);
+		subjectHistograms.forEach((metric, subjects) -> subjects.forEach((subject, histogram) ->
+				map.put(metric + '[' + subject.getName() + ']', histogram)));
+		return map;
+	}
+
+	/**
+	 * Clears all recorded values.
+	 */
+	public void reset() {
+		histograms.clear();
+		subjectHistograms.clear();
+		valueMetrics.clear();
+	}
+
+	/**
+	 * Times are reported in microseconds. Values such as byte counts are reported as-is.
+	 *
+	 * @return Summary table of all recorded metrics.
+	 */
+	public String dump() {
+		StringBuilder sb = new StringBuilder();
+		sb.append(String.format("%-48s %10s %12s %12s %12s %12s%n", "metric", "count", "mean", "p50", "p99", "max"));
+		new TreeMap<>(histograms).forEach((metric, histogram) -> {
+			// Times are recorded in nanoseconds.
+			double scale = valueMetrics.contains(metric) ? 1 : 1000;
+			appendRow(sb, metric, histogram, scale);
+
+			// Subjects are only shortened for display, and are still listed separately when their short names match.
+			Map<Class<?>, Histogram> subjects = subjectHistograms.get(metric);
+			if (subjects != null) {
+				Map<String, Histogram> sorted = new TreeMap<>();
+				subjects.forEach((subject, subjectHistogram) -> sorted.put(subject.getName(), subjectHistogram));
+				sorted.forEach((subject, subjectHistogram) ->
+						appendRow(sb, metric + '[' + shortName(subject) + ']', subjectHistogram, scale));
+			}
+		});
+		return sb.toString();
+	}
+
+	private static void appendRow(StringBuilder sb, String name, Histogram histogram, double scale) {
+		sb.append(String.format("%-48s %10d %12.1f %12.1f %12.1f %12.1f%n", name,
+				histogram.getCount(),
+				histogram.getMean() / scale,
+				histogram.getPercentile(0.5) / scale,
+				histogram.getPercentile(0.99) / scale,
+				histogram.getMax() / scale));
+	}
+
+	/**
+	 * @param className
+	 * 		Fully qualified class name.
+	 *
+	 * @return Class name without its package. Nested, anonymous and lambda classes keep their outer class name.
+	 */
+	private static String shortName(String className) {
+		return className.substring(className.lastIndexOf('.') + 1);
+	}
+}
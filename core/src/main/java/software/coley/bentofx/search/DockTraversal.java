@@ -0,0 +1,254 @@
+package software.coley.bentofx.search;
+
+import org.jspecify.annotations.Nullable;
+import software.coley.bentofx.dockable.Dockable;
+import software.coley.bentofx.layout.DockContainer;
+import software.coley.bentofx.layout.container.DockContainerBranch;
+import software.coley.bentofx.layout.container.DockContainerLeaf;
+import software.coley.bentofx.path.DockContainerPath;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Iterative traversals of {@link DockContainer} hierarchies.
+ * <p/>
+ * Unlike {@link DockContainer#visit(SearchVisitor)} these do not recurse, so deep layouts do not grow the stack,
+ * and they do not copy the dockable lists of containers. Each traversal allocates a single work queue.
+ * Paths to visited containers are only computed when {@link ContainerIterator#path() requested}.
+ * <p/>
+ * Traversals read the live layout, so they must be used on the FX thread.
+ *
+ * @author Matt Coley
+ */
+public final class DockTraversal {
+	private DockTraversal() {}
+
+	/**
+	 * @param roots
+	 * 		Containers to start from.
+	 *
+	 * @return Pre-order depth-first traversal of the containers and all their children.
+	 */
+	public static ContainerIterator depthFirst(Collection<? extends DockContainer> roots) {
+		return new ContainerIterator(roots, true);
+	}
+
+	/**
+	 * @param root
+	 * 		Container to start from.
+	 *
+	 * @return Pre-order depth-first traversal of the container and all its children.
+	 */
+	public static ContainerIterator depthFirst(DockContainer root) {
+		return depthFirst(List.of(root));
+	}
+
+	/**
+	 * @param roots
+	 * 		Containers to start from.
+	 *
+	 * @return Breadth-first traversal of the containers and all their children.
+	 */
+	public static ContainerIterator breadthFirst(Collection<? extends DockContainer> roots) {
+		return new ContainerIterator(roots, false);
+	}
+
+	/**
+	 * @param root
+	 * 		Container to start from.
+	 *
+	 * @return Breadth-first traversal of the container and all its children.
+	 */
+	public static ContainerIterator breadthFirst(DockContainer root) {
+		return breadthFirst(List.of(root));
+	}
+
+	/**
+	 * @param roots
+	 * 		Containers to start from.
+	 * @param descend
+	 * 		Predicate deciding if the children of a branch are traversed.
+	 *
+	 * @return Depth-first traversal of all leaves within the containers.
+	 */
+	public static Iterator<DockContainerLeaf> leaves(Collection<? extends DockContainer> roots,
+	                                                 Predicate<DockContainerBranch> descend) {
+		ContainerIterator containers = depthFirst(roots);
+		return new Iterator<>() {
+			private @Nullable DockContainerLeaf next;
+
+			@Override
+			public boolean hasNext() {
+				while (next == null && containers.hasNext()) {
+					DockContainer container = containers.next();
+					if (container instanceof DockContainerLeaf leaf)
+						next = leaf;
+					else if (container instanceof DockContainerBranch branch && !descend.test(branch))
+						containers.skipChildren();
+				}
+				return next != null;
+			}
+
+			@Override
+			public DockContainerLeaf next() {
+				if (!hasNext())
+					throw new NoSuchElementException();
+				DockContainerLeaf leaf = next;
+				next = null;
+				return leaf;
+			}
+		};
+	}
+
+	/**
+	 * @param roots
+	 * 		Containers to start from.
+	 *
+	 * @return Depth-first traversal of all leaves within the containers.
+	 */
+	public static Iterator<DockContainerLeaf> leaves(Collection<? extends DockContainer> roots) {
+		return leaves(roots, b -> true);
+	}
+
+	/**
+	 * @param roots
+	 * 		Containers to start from.
+	 * @param descend
+	 * 		Predicate deciding if the children of a branch are traversed.
+	 *
+	 * @return Traversal of all dockables within the containers, in depth-first leaf order.
+	 */
+	public static Iterator<Dockable> dockables(Collection<? extends DockContainer> roots,
+	                                           Predicate<DockContainerBranch> descend) {
+		Iterator<DockContainerLeaf> leaves = leaves(roots, descend);
+		return new Iterator<>() {
+			private List<Dockable> current = List.of();
+			private int index;
+
+			@Override
+			public boolean hasNext() {
+				while (index >= current.size()) {
+					if (!leaves.hasNext())
+						return false;
+					current = leaves.next().getDockables();
+					index = 0;
+				}
+				return true;
+			}
+
+			@Override
+			public Dockable next() {
+				if (!hasNext())
+					throw new NoSuchElementException();
+				return current.get(index++);
+			}
+		};
+	}
+
+	/**
+	 * @param roots
+	 * 		Containers to start from.
+	 *
+	 * @return Traversal of all dockables within the containers, in depth-first leaf order.
+	 */
+	public static Iterator<Dockable> dockables(Collection<? extends DockContainer> roots) {
+		return dockables(roots, b -> true);
+	}
+
+	/**
+	 * @param root
+	 * 		Container to start from.
+	 *
+	 * @return Traversal of all dockables within the container, in depth-first leaf order.
+	 */
+	public static Iterator<Dockable> dockables(DockContainer root) {
+		return dockables(List.of(root));
+	}
+
+	/**
+	 * @param iterator
+	 * 		Some traversal.
+	 * @param <T>
+	 * 		Traversed type.
+	 *
+	 * @return Lazy sequential stream over the traversal.
+	 */
+	public static <T> Stream<T> stream(Iterator<T> iterator) {
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false);
+	}
+
+	/**
+	 * Traversal of containers which allows skipping the children of the last visited container.
+	 */
+	public static final class ContainerIterator implements Iterator<DockContainer> {
+		private final ArrayDeque<DockContainer> work = new ArrayDeque<>();
+		private final boolean depthFirst;
+		private @Nullable DockContainerBranch expand;
+		private @Nullable DockContainer current;
+
+		private ContainerIterator(Collection<? extends DockContainer> roots, boolean depthFirst) {
+			this.depthFirst = depthFirst;
+			work.addAll(roots);
+		}
+
+		@Override
+		public boolean hasNext() {
+			expandPending();
+			return !work.isEmpty();
+		}
+
+		@Override
+		public DockContainer next() {
+			expandPending();
+			DockContainer container = work.pollFirst();
+			if (container == null)
+				throw new NoSuchElementException();
+			current = container;
+
+			// Children are added on the next step, so that they can be skipped before then.
+			expand = container instanceof DockContainerBranch branch ? branch : null;
+			return container;
+		}
+
+		/**
+		 * Prunes the subtree of the container last returned by {@link #next()}.
+		 */
+		public void skipChildren() {
+			expand = null;
+		}
+
+		/**
+		 * @return Path to the container last returned by {@link #next()}.
+		 */
+		public DockContainerPath path() {
+			if (current == null)
+				throw new IllegalStateException("No container has been visited yet");
+			return current.getPath();
+		}
+
+		private void expandPending() {
+			DockContainerBranch branch = expand;
+			if (branch == null)
+				return;
+			expand = null;
+
+			List<DockContainer> children = branch.getChildContainers();
+			if (depthFirst) {
+				// Push in reverse so that the first child is visited first.
+				for (int i = children.size() - 1; i >= 0; i--)
+					work.addFirst(children.get(i));
+			} else {
+				work.addAll(children);
+			}
+		}
+	}
+}
@@ -0,0 +1,342 @@
+package software.coley.bentofx.search;
+
+import javafx.beans.value.ChangeListener;
+import org.jspecify.annotations.Nullable;
+import software.coley.bentofx.Bento;
+import software.coley.bentofx.dockable.Dockable;
+import software.coley.bentofx.event.DockEvent;
+import software.coley.bentofx.layout.DockContainer;
+import software.coley.bentofx.layout.container.DockContainerBranch;
+import software.coley.bentofx.layout.container.DockContainerLeaf;
+import software.coley.bentofx.layout.container.DockContainerRootBranch;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * Secondary indexes over all dockables within the registered root containers of a {@link Bento} instance.
+ * <p/>
+ * Dockables are indexed by title <i>(prefix and trigram)</i>, drag group mask and leaf container.
+ * The indexes are kept current through {@link DockEvent}s and title listeners, so queries do not walk the layout.
+ * Query results are lazy streams over the indexes, so they should be consumed on the FX thread before the layout
+ * is next changed. Title matching is case-insensitive.
+ *
+ * @author Matt Coley
+ * @see SearchHandler#index()
+ */
+public class DockableIndex {
+	private static final int GRAM = 3;
+	private final Map<Dockable, Entry> entries = new LinkedHashMap<>();
+	private final NavigableMap<String, Set<Dockable>> titles = new TreeMap<>();
+	private final Map<String, Set<Dockable>> trigrams = new HashMap<>();
+	private final Map<Integer, Set<Dockable>> dragGroups = new HashMap<>();
+	private final Map<String, Set<Dockable>> leaves = new HashMap<>();
+	private final Bento bento;
+
+	/**
+	 * @param bento
+	 * 		Parent bento instance.
+	 */
+	public DockableIndex(Bento bento) {
+		this.bento = bento;
+
+		for (DockContainerRootBranch root : bento.getRootContainers())
+			addAll(root);
+		bento.events().addEventListener(this::onEvent);
+	}
+
+	/**
+	 * @return Number of indexed dockables.
+	 */
+	public int size() {
+		return entries.size();
+	}
+
+	/**
+	 * @return All indexed dockables.
+	 */
+	public Stream<Dockable> all() {
+		return entries.keySet().stream();
+	}
+
+	/**
+	 * @param predicate
+	 * 		Predicate to match against dockables.
+	 *
+	 * @return All indexed dockables matching the predicate.
+	 */
+	public Stream<Dockable> matching(Predicate<Dockable> predicate) {
+		return all().filter(predicate);
+	}
+
+	/**
+	 * @param prefix
+	 * 		Title prefix.
+	 *
+	 * @return Dockables with titles starting with the given prefix, in title order.
+	 */
+	public Stream<Dockable> titleStartsWith(String prefix) {
+		String key = normalize(prefix);
+		if (key.isEmpty())
+			return all();
+		return titles.subMap(key, true, key + Character.MAX_VALUE, false).values().stream()
+				.flatMap(Collection::stream);
+	}
+
+	/**
+	 * @param text
+	 * 		Text to search for.
+	 *
+	 * @return Dockables with titles containing the given text.
+	 */
+	public Stream<Dockable> titleContains(String text) {
+		String key = normalize(text);
+		if (key.isEmpty())
+			return all();
+		if (key.length() < GRAM)
+			return entries.values().stream()
+					.filter(e -> e.title.contains(key))
+					.map(e -> e.dockable);
+
+		// Walk the smallest posting list of the text's trigrams, verifying each candidate.
+		Set<Dockable> smallest = null;
+		for (int i = 0; i + GRAM <= key.length(); i++) {
+			Set<Dockable> posting = trigrams.get(key.substring(i, i + GRAM));
+			if (posting == null)
+				return Stream.empty();
+			if (smallest == null || posting.size() < smallest.size())
+				smallest = posting;
+		}
+		return smallest.stream().filter(d -> entries.get(d).title.contains(key));
+	}
+
+	/**
+	 * Fuzzy matches titles containing the characters of the query in order, such as {@code "ctl"} matching
+	 * {@code "Console Tool"}. Results are ordered best match first, favoring consecutive characters,
+	 * matches at word starts and shorter titles.
+	 *
+	 * @param query
+	 * 		Fuzzy query.
+	 *
+	 * @return Dockables with titles matching the query.
+	 */
+	public Stream<Dockable> fuzzy(String query) {
+		String key = normalize(query);
+		if (key.isEmpty())
+			return all();
+		return entries.values().stream()
+				.map(e -> new FuzzyMatch(e.dockable, fuzzyScore(e.title, key)))
+				.filter(m -> m.score > 0)
+				.sorted(Comparator.comparingInt(FuzzyMatch::score).reversed())
+				.map(FuzzyMatch::dockable);
+	}
+
+	/**
+	 * @param dragGroupMask
+	 * 		Drag group mask.
+	 *
+	 * @return Dockables with the exact given {@link Dockable#getDragGroupMask()}.
+	 */
+	public Stream<Dockable> inDragGroup(int dragGroupMask) {
+		return dragGroups.getOrDefault(dragGroupMask, Collections.emptySet()).stream();
+	}
+
+	/**
+	 * @param bits
+	 * 		Drag group bits.
+	 *
+	 * @return Dockables with a {@link Dockable#getDragGroupMask()} sharing any of the given bits.
+	 */
+	public Stream<Dockable> inAnyDragGroup(int bits) {
+		return dragGroups.entrySet().stream()
+				.filter(e -> (e.getKey() & bits) != 0)
+				.flatMap(e -> e.getValue().stream());
+	}
+
+	/**
+	 * @param identifier
+	 * 		Identifier of a {@link DockContainerLeaf}.
+	 *
+	 * @return Dockables within the leaf.
+	 */
+	public Stream<Dockable> inLeaf(String identifier) {
+		return leaves.getOrDefault(identifier, Collections.emptySet()).stream();
+	}
+
+	/**
+	 * @param event
+	 * 		Event to update the indexes with.
+	 */
+	protected void onEvent(DockEvent event) {
+		switch (event) {
+			case DockEvent.RootContainerAdded e -> addAll(e.container());
+			case DockEvent.RootContainerRemoved e -> removeAll(e.container());
+			case DockEvent.ContainerChildAdded e -> {
+				if (isRegistered(e.container()))
+					addAll(e.child());
+			}
+			case DockEvent.ContainerChildRemoved e -> removeAll(e.child());
+			case DockEvent.DockableAdded e -> {
+				if (isRegistered(e.container()))
+					add(e.dockable(), e.container());
+			}
+			case DockEvent.DockableRemoved e -> {
+				// Skip if the dockable was already added elsewhere.
+				Entry entry = entries.get(e.dockable());
+				if (entry != null && entry.leaf.equals(e.container().getIdentifier()))
+					remove(e.dockable());
+			}
+			default -> {
+				// Other events do not change membership.
+			}
+		}
+	}
+
+	private void addAll(DockContainer container) {
+		switch (container) {
+			case DockContainerBranch branch -> branch.getChildContainers().forEach(this::addAll);
+			case DockContainerLeaf leaf -> leaf.getDockables().forEach(d -> add(d, leaf));
+		}
+	}
+
+	private void removeAll(DockContainer container) {
+		container.getDockables().forEach(this::remove);
+	}
+
+	private void add(Dockable dockable, DockContainerLeaf leaf) {
+		// Dockables are normally removed from their prior leaf before being added to another, but handle either order.
+		Entry existing = entries.get(dockable);
+		if (existing != null) {
+			if (existing.leaf.equals(leaf.getIdentifier()))
+				return;
+			remove(dockable);
+		}
+
+		Entry entry = new Entry(dockable, leaf.getIdentifier());
+		entries.put(dockable, entry);
+		put(leaves, entry.leaf, dockable);
+		put(dragGroups, entry.dragGroupMask, dockable);
+		indexTitle(entry);
+		dockable.titleProperty().addListener(entry.titleListener);
+		dockable.dragGroupMaskProperty().addListener(entry.dragGroupListener);
+	}
+
+	private void remove(Dockable dockable) {
+		Entry entry = entries.remove(dockable);
+		if (entry == null)
+			return;
+		dockable.titleProperty().removeListener(entry.titleListener);
+		dockable.dragGroupMaskProperty().removeListener(entry.dragGroupListener);
+		unindexTitle(entry);
+		take(dragGroups, entry.dragGroupMask, dockable);
+		take(leaves, entry.leaf, dockable);
+	}
+
+	private void indexTitle(Entry entry) {
+		put(titles, entry.title, entry.dockable);
+		String title = entry.title;
+		for (int i = 0; i + GRAM <= title.length(); i++)
+			put(trigrams, title.substring(i, i + GRAM), entry.dockable);
+	}
+
+	private void unindexTitle(Entry entry) {
+		take(titles, entry.title, entry.dockable);
+		String title = entry.title;
+		for (int i = 0; i + GRAM <= title.length(); i++)
+			take(trigrams, title.substring(i, i + GRAM), entry.dockable);
+	}
+
+	private boolean isRegistered(DockContainer container) {
+		DockContainer top = container;
+		DockContainerBranch parent = container.getParentContainer();
+		while (parent != null) {
+			top = parent;
+			parent = parent.getParentContainer();
+		}
+		return top instanceof DockContainerRootBranch root && bento.getRootContainers().contains(root);
+	}
+
+	private static <K> void put(Map<K, Set<Dockable>> map, K key, Dockable dockable) {
+		map.computeIfAbsent(key, k -> new LinkedHashSet<>()).add(dockable);
+	}
+
+	private static <K> void take(Map<K, Set<Dockable>> map, K key, Dockable dockable) {
+		Set<Dockable> set = map.get(key);
+		if (set != null && set.remove(dockable) && set.isEmpty())
+			map.remove(key);
+	}
+
+	private static String normalize(@Nullable String text) {
+		return text == null ? "" : text.toLowerCase(Locale.ROOT);
+	}
+
+	/**
+	 * @param title
+	 * 		Normalized title.
+	 * @param query
+	 * 		Normalized, non-empty query.
+	 *
+	 * @return Score of the match, or {@code 0} if the title does not contain all query characters in order.
+	 */
+	private static int fuzzyScore(String title, String query) {
+		int score = 0;
+		int streak = 0;
+		int t = 0;
+		for (int q = 0; q < query.length(); q++) {
+			char c = query.charAt(q);
+			int found = title.indexOf(c, t);
+			if (found < 0)
+				return 0;
+			streak = found == t && q > 0 ? streak + 1 : 0;
+			score += 1 + streak * 2;
+			if (found == 0 || !Character.isLetterOrDigit(title.charAt(found - 1)))
+				score += 3;
+			t = found + 1;
+		}
+
+		// Favor shorter titles, but never let that cancel out the match itself.
+		return Math.max(1, score * 16 - title.length());
+	}
+
+	private record FuzzyMatch(Dockable dockable, int score) {}
+
+	/**
+	 * Indexed state of a dockable, retained so that the prior keys can be removed when the dockable changes.
+	 */
+	private class Entry {
+		private final Dockable dockable;
+		private final String leaf;
+		private final ChangeListener<String> titleListener;
+		private final ChangeListener<Number> dragGroupListener;
+		private String title;
+		private int dragGroupMask;
+
+		private Entry(Dockable dockable, String leaf) {
+			this.dockable = dockable;
+			this.leaf = leaf;
+			this.title = normalize(dockable.getTitle());
+			this.dragGroupMask = dockable.getDragGroupMask();
+			this.titleListener = (ob, old, cur) -> {
+				unindexTitle(this);
+				title = normalize(cur);
+				indexTitle(this);
+			};
+			this.dragGroupListener = (ob, old, cur) -> {
+				take(dragGroups, dragGroupMask, dockable);
+				dragGroupMask = cur.intValue();
+				put(dragGroups, dragGroupMask, dockable);
+			};
+		}
+	}
+}
@@ -6,14 +6,14 @@
 import software.coley.bentofx.dockable.Dockable;
 import software.coley.bentofx.layout.DockContainer;
 import software.coley.bentofx.layout.container.DockContainerBranch;
-import software.coley.bentofx.layout.container.DockContainerRootBranch;
+import software.coley.bentofx.metrics.BentoMetrics;
 import software.coley.bentofx.path.DockContainerPath;
 import software.coley.bentofx.path.DockablePath;
 import software.coley.bentofx.util.DragUtils;
 
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
-import java.util.Objects;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
@@ -24,6 +24,7 @@
  */
 public class SearchHandler {
 	private final Bento bento;
+	private @Nullable DockableIndex index;
 
 	/**
 	 * @param bento
@@ -33,6 +34,26 @@ public SearchHandler(Bento bento) {
 		this.bento = bento;
 	}
 
+	/**
+	 * The index is created on first access, and is maintained from then on as the layout changes.
+	 * Prefer it over the visitor based lookups in this class when querying dockables repeatedly,
+	 * such as when filtering on each keystroke.
+	 *
+	 * @return Indexed dockable queries.
+	 */
+	public DockableIndex index() {
+		if (index == null)
+			index = newDockableIndex();
+		return index;
+	}
+
+	/**
+	 * @return New dockable index.
+	 */
+	protected DockableIndex newDockableIndex() {
+		return new DockableIndex(bento);
+	}
+
 	/**
 	 * @param identifier
 	 * 		Some {@link DockContainer#getIdentifier()}.
@@ -85,13 +106,19 @@ public DockContainerPath container(String identifier) {
 	 */
 	@Nullable
 	public DockContainerPath container(Predicate<DockContainer> predicate) {
-		DockContainerVisitor visitor = new DockContainerVisitor(predicate);
-		for (DockContainer container : bento.getRootContainers()) {
-			if (!container.visit(visitor))
+		BentoMetrics metrics = bento.metrics();
+		long start = metrics.isEnabled() ? System.nanoTime() : 0;
+		DockContainerPath path = null;
+		DockTraversal.ContainerIterator containers = DockTraversal.depthFirst(bento.getRootContainers());
+		while (containers.hasNext()) {
+			if (predicate.test(containers.next())) {
+				path = containers.path();
 				break;
+			}
 		}
-		DockContainer result = visitor.getMatchedContainer();
-		return result == null ? null : result.getPath();
+		if (metrics.isEnabled())
+			metrics.recordTime(BentoMetrics.SEARCH_CONTAINER, System.nanoTime() - start);
+		return path;
 	}
 
 	/**
@@ -125,26 +152,37 @@ public DockablePath dockable(String identifier) {
 	 */
 	@Nullable
 	public DockablePath dockable(Predicate<Dockable> predicate) {
-		DockableVisitor visitor = new DockableVisitor(predicate);
-		for (DockContainer container : bento.getRootContainers()) {
-			if (!container.visit(visitor))
+		BentoMetrics metrics = bento.metrics();
+		long start = metrics.isEnabled() ? System.nanoTime() : 0;
+		DockablePath path = null;
+		Iterator<Dockable> dockables = DockTraversal.dockables(bento.getRootContainers());
+		while (dockables.hasNext()) {
+			Dockable dockable = dockables.next();
+			if (predicate.test(dockable)) {
+				path = dockable.getPath();
 				break;
+			}
 		}
-		Dockable result = visitor.getMatchedDockable();
-		return result == null ? null : result.getPath();
+		if (metrics.isEnabled())
+			metrics.recordTime(BentoMetrics.SEARCH_DOCKABLE, System.nanoTime() - start);
+		return path;
 	}
 
 	/**
 	 * @return All found dockable paths in the current bento instance.
 	 */
 	public List<DockablePath> allDockables() {
+		BentoMetrics metrics = bento.metrics();
+		long start = metrics.isEnabled() ? System.nanoTime() : 0;
 		List<DockablePath> paths = new ArrayList<>();
-		for (DockContainerRootBranch root : bento.getRootContainers()) {
-			paths.addAll(root.getDockables().stream()
-					.map(Dockable::getPath)
-					.filter(Objects::nonNull) // Sanity check
-					.toList());
+		Iterator<Dockable> dockables = DockTraversal.dockables(bento.getRootContainers());
+		while (dockables.hasNext()) {
+			DockablePath path = dockables.next().getPath();
+			if (path != null) // Sanity check
+				paths.add(path);
 		}
+		if (metrics.isEnabled())
+			metrics.recordTime(BentoMetrics.SEARCH_ALL_DOCKABLES, System.nanoTime() - start);
 		return paths;
 	}
 }
@@ -0,0 +1,83 @@
+package software.coley.bentofx.snapshot;
+
+import javafx.geometry.Orientation;
+import org.jspecify.annotations.Nullable;
+import software.coley.bentofx.layout.container.DockContainerBranch;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Immutable copy of a {@link DockContainerBranch}.
+ *
+ * @param identifier
+ * 		Identifier of the branch.
+ * @param orientation
+ * 		Orientation the children of the branch are laid out along.
+ * @param dividerPositions
+ * 		Positions of the dividers between children, as a percentage of the branch size.
+ * @param children
+ * 		Child containers of the branch.
+ *
+ * @author Matt Coley
+ */
+public record BranchSnapshot(String identifier, Orientation orientation, List<Double> dividerPositions,
+                             List<ContainerSnapshot> children) implements ContainerSnapshot {
+	/**
+	 * @param dividerPositions
+	 * 		Positions of the dividers between children.
+	 *
+	 * @return Copy of this branch with the given divider positions, sharing the children of this branch.
+	 */
+	public BranchSnapshot withDividerPositions(List<Double> dividerPositions) {
+		if (this.dividerPositions.equals(dividerPositions))
+			return this;
+		return new BranchSnapshot(identifier, orientation, dividerPositions, children);
+	}
+
+	/**
+	 * @param branch
+	 * 		Branch to read divider positions of. Must be read on the FX thread.
+	 *
+	 * @return Divider positions of the branch.
+	 */
+	static List<Double> dividerPositionsOf(DockContainerBranch branch) {
+		double[] positions = branch.getDividerPositions();
+		List<Double> list = new ArrayList<>(positions.length);
+		for (double position : positions)
+			list.add(position);
+		return List.copyOf(list);
+	}
+
+	@Override
+	public List<String> dockableIdentifiers() {
+		List<String> identifiers = new ArrayList<>();
+		for (ContainerSnapshot child : children)
+			identifiers.addAll(child.dockableIdentifiers());
+		return identifiers;
+	}
+
+	@Nullable
+	@Override
+	public ContainerSnapshot findContainer(String identifier) {
+		if (this.identifier.equals(identifier))
+			return this;
+		for (ContainerSnapshot child : children) {
+			ContainerSnapshot found = child.findContainer(identifier);
+			if (found != null)
+				return found;
+		}
+		return null;
+	}
+
+	@Nullable
+	@Override
+	public LeafSnapshot findLeafOf(String dockableIdentifier) {
+		for (ContainerSnapshot child : children) {
+			LeafSnapshot found = child.findLeafOf(dockableIdentifier);
+			if (found != null)
+				return found;
+		}
+		return null;
+	}
+}
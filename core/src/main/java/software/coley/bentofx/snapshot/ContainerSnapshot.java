@@ -0,0 +1,44 @@
+package software.coley.bentofx.snapshot;
+
+import org.jspecify.annotations.Nullable;
+import software.coley.bentofx.layout.DockContainer;
+
+import java.util.List;
+
+/**
+ * Immutable copy of a {@link DockContainer}, which can safely be read from any thread.
+ *
+ * @author Matt Coley
+ * @see LayoutSnapshot
+ */
+public sealed interface ContainerSnapshot permits BranchSnapshot, LeafSnapshot {
+	/**
+	 * @return Identifier of the container.
+	 */
+	String identifier();
+
+	/**
+	 * @return Identifiers of all dockables within this container and its children.
+	 */
+	List<String> dockableIdentifiers();
+
+	/**
+	 * @param identifier
+	 * 		Identifier of some container.
+	 *
+	 * @return Container within this container <i>(including itself)</i> with the given identifier,
+	 * or {@code null} if no such container exists.
+	 */
+	@Nullable
+	ContainerSnapshot findContainer(String identifier);
+
+	/**
+	 * @param dockableIdentifier
+	 * 		Identifier of some dockable.
+	 *
+	 * @return Leaf within this container <i>(including itself)</i> holding the given dockable,
+	 * or {@code null} if no such leaf exists.
+	 */
+	@Nullable
+	LeafSnapshot findLeafOf(String dockableIdentifier);
+}
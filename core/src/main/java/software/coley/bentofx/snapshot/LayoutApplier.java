@@ -0,0 +1,458 @@
+package software.coley.bentofx.snapshot;
+
+import javafx.geometry.Orientation;
+import software.coley.bentofx.Bento;
+import software.coley.bentofx.dockable.Dockable;
+import software.coley.bentofx.event.DockEvent;
+import software.coley.bentofx.layout.DockContainer;
+import software.coley.bentofx.layout.container.DockContainerBranch;
+import software.coley.bentofx.layout.container.DockContainerLeaf;
+import software.coley.bentofx.layout.container.DockContainerRootBranch;
+import software.coley.bentofx.search.DockTraversal;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Applies a target {@link LayoutSnapshot} to the live layout of a {@link Bento} instance with minimal changes.
+ * <p/>
+ * Containers and dockables are matched between the target and live layouts by identifier. Matched containers are
+ * kept and only moved, reordered or updated where they differ from the target, so unchanged subtrees keep their
+ * nodes, headers and styling. Containers in the target with no live match are created. Containers in the live layout
+ * with no match in the target are removed. Dockables in the live layout with no match in the target are
+ * {@link DockContainerLeaf#closeDockable(Dockable) closed}, and those which are not closable or whose closing is
+ * cancelled are kept in place, along with the containers holding them. Dockables cannot be created from a layout
+ * description, so dockables in the target with no live match are reported and skipped. Live roots which the target
+ * does not list are left untouched, along with their containers and dockables.
+ * <p/>
+ * Pruning of empty containers and auto-selection of dockables are suspended while the layout is applied,
+ * so intermediate states do not collapse containers the target still uses, or load the content of dockables
+ * which are only briefly selected. Once restored, pruning is re-run for any containers left empty.
+ * <p/>
+ * All changes are made in a single {@link software.coley.bentofx.event.EventBus#batch event batch}, so listeners
+ * are notified of each change once the layout is applied, followed by a {@link DockEvent.LayoutApplied} event.
+ * Must be used on the FX thread.
+ *
+ * @author Matt Coley
+ * @see Bento#applyLayout(LayoutSnapshot)
+ */
+public class LayoutApplier {
+	private final Map<String, DockContainer> liveContainers = new HashMap<>();
+	private final Map<String, Dockable> liveDockables = new HashMap<>();
+	private final List<DockContainerLeaf> liveLeaves = new ArrayList<>();
+	private final Map<DockContainer, DockContainerBranch> liveParents = new IdentityHashMap<>();
+	private final Map<DockContainer, Boolean> pruneStates = new IdentityHashMap<>();
+	private final Map<DockContainerLeaf, Boolean> autoSelectStates = new IdentityHashMap<>();
+	private final Set<DockContainer> detached = new LinkedHashSet<>();
+	private final Map<String, String> targetLeafOfDockable = new HashMap<>();
+	private final List<Map.Entry<LeafSnapshot, DockContainerLeaf>> targetLeaves = new ArrayList<>();
+	private final List<Map.Entry<BranchSnapshot, DockContainerBranch>> targetBranches = new ArrayList<>();
+	private final List<LayoutEdit> edits = new ArrayList<>();
+	private final List<Dockable> orphaned = new ArrayList<>();
+	private final List<Dockable> retained = new ArrayList<>();
+	private final List<String> missingDockables = new ArrayList<>();
+	private final List<String> unmatchedRoots = new ArrayList<>();
+	private final Bento bento;
+
+	/**
+	 * @param bento
+	 * 		Bento instance to apply layouts to.
+	 */
+	public LayoutApplier(Bento bento) {
+		this.bento = bento;
+	}
+
+	/**
+	 * Applies the target layout. Each applier instance should only be used once.
+	 *
+	 * @param target
+	 * 		Layout to apply.
+	 *
+	 * @return Outcome of applying the layout.
+	 */
+	public LayoutApplyResult apply(LayoutSnapshot target) {
+		Map<DockContainerRootBranch, BranchSnapshot> matchedRoots = new LinkedHashMap<>();
+		for (ContainerSnapshot targetRoot : target.roots()) {
+			DockContainerRootBranch root = bento.getRootContainers().stream()
+					.filter(r -> r.getIdentifier().equals(targetRoot.identifier()))
+					.findFirst().orElse(null);
+			if (root == null || !(targetRoot instanceof BranchSnapshot targetBranch) || matchedRoots.containsKey(root))
+				unmatchedRoots.add(targetRoot.identifier());
+			else
+				matchedRoots.put(root, targetBranch);
+		}
+
+		if (!matchedRoots.isEmpty()) {
+			List<DockContainerRootBranch> roots = List.copyOf(matchedRoots.keySet());
+			bento.events().batch(() -> applyToRoots(matchedRoots), () -> new DockEvent.LayoutApplied(roots));
+		}
+		return new LayoutApplyResult(List.copyOf(edits), List.copyOf(orphaned), List.copyOf(retained),
+				List.copyOf(missingDockables), List.copyOf(unmatchedRoots));
+	}
+
+	private void applyToRoots(Map<DockContainerRootBranch, BranchSnapshot> matchedRoots) {
+		indexLive(matchedRoots.keySet());
+		indexTarget(matchedRoots.values());
+		try {
+			// Dockables the target does not list are closed first, so that containers holding dockables
+			// which could not be closed are known before the structure is reconciled.
+			closeUnlisted();
+
+			// Structure next, so that every target leaf exists before dockables are moved between them.
+			matchedRoots.forEach((root, targetRoot) -> reconcileBranch(targetRoot, root));
+
+			// Containers detached along the way which the target did not place elsewhere are removed.
+			for (DockContainer container : detached) {
+				DockContainerBranch parent = liveParents.get(container);
+				if (container.getParentContainer() == null && parent != null)
+					edits.add(new LayoutEdit(LayoutEdit.Type.REMOVE_CONTAINER, container.getIdentifier(), parent.getIdentifier(), -1));
+			}
+
+			detachDockables();
+			placeDockables();
+
+			// Split-panes reset divider positions when their items change, so these go last.
+			for (Map.Entry<BranchSnapshot, DockContainerBranch> entry : targetBranches)
+				applyDividers(entry.getKey(), entry.getValue());
+			for (Map.Entry<LeafSnapshot, DockContainerLeaf> entry : targetLeaves)
+				applyCollapsed(entry.getKey(), entry.getValue());
+		} finally {
+			pruneStates.forEach(DockContainer::setPruneWhenEmpty);
+			autoSelectStates.forEach(DockContainerLeaf::setAutoSelect);
+		}
+		prune(matchedRoots.keySet());
+	}
+
+	private void indexLive(Set<DockContainerRootBranch> roots) {
+		DockTraversal.ContainerIterator containers = DockTraversal.depthFirst(roots);
+		while (containers.hasNext()) {
+			DockContainer container = containers.next();
+			suspend(container);
+
+			// Roots can only be matched against target roots.
+			DockContainerBranch parent = container.getParentContainer();
+			if (parent != null) {
+				liveParents.put(container, parent);
+				liveContainers.putIfAbsent(container.getIdentifier(), container);
+			}
+			if (container instanceof DockContainerLeaf leaf) {
+				liveLeaves.add(leaf);
+				for (Dockable dockable : leaf.getDockables())
+					liveDockables.putIfAbsent(dockable.getIdentifier(), dockable);
+			}
+		}
+	}
+
+	private void indexTarget(Collection<BranchSnapshot> targetRoots) {
+		// The first leaf listing a dockable takes it, in the same depth-first order the leaves are reconciled in.
+		Deque<ContainerSnapshot> stack = new ArrayDeque<>(targetRoots);
+		while (!stack.isEmpty()) {
+			switch (stack.pop()) {
+				case BranchSnapshot branch -> branch.children().reversed().forEach(stack::push);
+				case LeafSnapshot leaf -> {
+					for (String dockable : leaf.dockables())
+						targetLeafOfDockable.putIfAbsent(dockable, leaf.identifier());
+				}
+			}
+		}
+	}
+
+	private void closeUnlisted() {
+		for (DockContainerLeaf leaf : liveLeaves) {
+			for (Dockable dockable : List.copyOf(leaf.getDockables())) {
+				String identifier = dockable.getIdentifier();
+				if (targetLeafOfDockable.containsKey(identifier) && liveDockables.get(identifier) == dockable)
+					continue;
+				if (leaf.closeDockable(dockable)) {
+					orphaned.add(dockable);
+					edits.add(new LayoutEdit(LayoutEdit.Type.REMOVE_DOCKABLE, identifier, leaf.getIdentifier(), -1));
+				} else {
+					retained.add(dockable);
+				}
+			}
+		}
+	}
+
+	private DockContainer reconcile(ContainerSnapshot target) {
+		DockContainer live = liveContainers.get(target.identifier());
+		return switch (target) {
+			case BranchSnapshot branch -> {
+				DockContainerBranch liveBranch = live instanceof DockContainerBranch b ? b : newBranch(branch);
+				reconcileBranch(branch, liveBranch);
+				yield liveBranch;
+			}
+			case LeafSnapshot leaf -> {
+				DockContainerLeaf liveLeaf = live instanceof DockContainerLeaf l ? l : newLeaf(leaf);
+				if (liveLeaf.getSide() != leaf.side()) {
+					liveLeaf.setSide(leaf.side());
+					edits.add(new LayoutEdit(LayoutEdit.Type.SIDE, leaf.identifier(), null, -1));
+				}
+				targetLeaves.add(Map.entry(leaf, liveLeaf));
+				yield liveLeaf;
+			}
+		};
+	}
+
+	private void reconcileBranch(BranchSnapshot target, DockContainerBranch branch) {
+		targetBranches.add(Map.entry(target, branch));
+
+		Orientation orientation = target.orientation();
+		if (branch.getOrientation() != orientation) {
+			branch.setOrientation(orientation);
+			edits.add(new LayoutEdit(LayoutEdit.Type.ORIENTATION, target.identifier(), null, -1));
+		}
+
+		// Children the target does not list here are detached first, so that they do not shift the target children.
+		// They are only recorded as removed if the target does not place them elsewhere.
+		// Children holding retained dockables stay, and are shifted after the target children.
+		List<ContainerSnapshot> targetChildren = target.children();
+		Set<String> targetIdentifiers = new HashSet<>();
+		for (ContainerSnapshot targetChild : targetChildren)
+			targetIdentifiers.add(targetChild.identifier());
+		for (DockContainer child : List.copyOf(branch.getChildContainers()))
+			if (!targetIdentifiers.contains(child.getIdentifier()) && !holdsRetained(child))
+				detach(child);
+
+		for (int i = 0; i < targetChildren.size(); i++)
+			place(branch, i, reconcile(targetChildren.get(i)));
+
+		// Every target child now occupies the leading indices, so any remaining children are either kept for
+		// retained dockables, or extras which share an identifier with a target child but could not be reused for it.
+		List<DockContainer> children = branch.getChildContainers();
+		for (int i = children.size() - 1; i >= targetChildren.size(); i--)
+			if (!holdsRetained(children.get(i)))
+				detach(children.get(i));
+	}
+
+	private void place(DockContainerBranch branch, int index, DockContainer child) {
+		List<DockContainer> children = branch.getChildContainers();
+		if (index < children.size() && children.get(index) == child)
+			return;
+
+		// If the target inverts a parent-child relationship, the branch must leave the child's subtree first.
+		// The branch itself is placed by the caller once its children are reconciled.
+		if (isWithin(branch, child))
+			detach(branch);
+
+		DockContainerBranch priorParent = child.getParentContainer();
+		if (priorParent != null)
+			priorParent.removeContainer(child);
+		branch.addContainer(Math.min(index, children.size()), child);
+
+		LayoutEdit.Type type;
+		if (!pruneStates.containsKey(child)) {
+			suspend(child);
+			type = LayoutEdit.Type.CREATE_CONTAINER;
+		} else {
+			type = liveParents.get(child) == branch ? LayoutEdit.Type.REORDER_CONTAINER : LayoutEdit.Type.MOVE_CONTAINER;
+		}
+		edits.add(new LayoutEdit(type, child.getIdentifier(), branch.getIdentifier(), index));
+	}
+
+	/**
+	 * Removes a live container from its parent without recording an edit.
+	 * The container is recorded as removed once the structure is reconciled, if it was not placed again by then.
+	 *
+	 * @param container
+	 * 		Live container to detach.
+	 */
+	private void detach(DockContainer container) {
+		DockContainerBranch parent = container.getParentContainer();
+		if (parent != null) {
+			detached.add(container);
+			parent.removeContainer(container);
+		}
+	}
+
+	private void detachDockables() {
+		for (DockContainerLeaf leaf : liveLeaves) {
+			List<Dockable> dockables = leaf.getDockables();
+			for (int i = dockables.size() - 1; i >= 0; i--) {
+				// Retained dockables have no target leaf, and stay where they are.
+				Dockable dockable = dockables.get(i);
+				String targetLeaf = targetLeafOfDockable.get(dockable.getIdentifier());
+				if (targetLeaf != null && !retained.contains(dockable) && !targetLeaf.equals(leaf.getIdentifier())) {
+					// Placed into the target leaf later.
+					leaf.removeDockable(dockable);
+				}
+			}
+		}
+	}
+
+	private void placeDockables() {
+		for (Map.Entry<LeafSnapshot, DockContainerLeaf> entry : targetLeaves) {
+			LeafSnapshot target = entry.getKey();
+			DockContainerLeaf leaf = entry.getValue();
+			List<Dockable> current = leaf.getDockables();
+			int slot = 0;
+			for (String identifier : target.dockables()) {
+				// Skip duplicates listed by multiple leaves.
+				if (!target.identifier().equals(targetLeafOfDockable.get(identifier)))
+					continue;
+
+				Dockable dockable = liveDockables.get(identifier);
+				if (dockable == null) {
+					missingDockables.add(identifier);
+					continue;
+				}
+
+				if (slot < current.size() && current.get(slot) == dockable) {
+					slot++;
+					continue;
+				}
+
+				LayoutEdit.Type type = LayoutEdit.Type.MOVE_DOCKABLE;
+				if (dockable.getContainer() == leaf) {
+					leaf.removeDockable(dockable);
+					type = LayoutEdit.Type.REORDER_DOCKABLE;
+				}
+				leaf.addDockable(slot, dockable);
+				edits.add(new LayoutEdit(type, identifier, leaf.getIdentifier(), slot));
+				slot++;
+			}
+
+			// Auto-selection is suspended, so leaves without a valid target selection select their first dockable.
+			String selected = target.selected();
+			Dockable selectedDockable = selected == null ? null : liveDockables.get(selected);
+			if (selectedDockable == null || selectedDockable.getContainer() != leaf)
+				selectedDockable = leaf.getSelectedDockable() == null && !current.isEmpty() ? current.getFirst() : null;
+			if (selectedDockable != null && leaf.getSelectedDockable() != selectedDockable) {
+				leaf.selectDockable(selectedDockable);
+				edits.add(new LayoutEdit(LayoutEdit.Type.SELECT_DOCKABLE, selectedDockable.getIdentifier(), leaf.getIdentifier(), -1));
+			}
+		}
+	}
+
+	private void applyDividers(BranchSnapshot target, DockContainerBranch branch) {
+		List<Double> positions = target.dividerPositions();
+		if (positions.size() != branch.getDividers().size() || positions.equals(BranchSnapshot.dividerPositionsOf(branch)))
+			return;
+		double[] array = new double[positions.size()];
+		for (int i = 0; i < array.length; i++)
+			array[i] = positions.get(i);
+		branch.setDividerPositions(array);
+		edits.add(new LayoutEdit(LayoutEdit.Type.RESIZE, target.identifier(), null, -1));
+	}
+
+	private void applyCollapsed(LeafSnapshot target, DockContainerLeaf leaf) {
+		DockContainerBranch parent = leaf.getParentContainer();
+		if (parent != null && leaf.collapsedProperty().get() != target.collapsed()
+				&& parent.setContainerCollapsed(leaf, target.collapsed()))
+			edits.add(new LayoutEdit(LayoutEdit.Type.COLLAPSE, target.identifier(), null, -1));
+	}
+
+	/**
+	 * Prunes containers left empty, now that their pruning states are restored.
+	 * Removals and moves caused by pruning are recorded as edits.
+	 *
+	 * @param roots
+	 * 		Roots the layout was applied to.
+	 */
+	private void prune(Set<DockContainerRootBranch> roots) {
+		Map<DockContainer, DockContainerBranch> before = parentsWithin(roots);
+
+		// Children before parents, so pruning a child can cascade up into the branches it empties.
+		List<DockContainer> containers = new ArrayList<>(before.keySet());
+		for (int i = containers.size() - 1; i >= 0; i--) {
+			DockContainer container = containers.get(i);
+			if (container.getParentContainer() == null || !container.doPruneWhenEmpty())
+				continue;
+			boolean empty = switch (container) {
+				case DockContainerBranch branch -> branch.getChildContainers().isEmpty();
+				case DockContainerLeaf leaf -> leaf.getDockables().isEmpty();
+			};
+			if (empty)
+				container.removeFromParent();
+		}
+
+		Map<DockContainer, DockContainerBranch> after = parentsWithin(roots);
+		before.forEach((container, parent) -> {
+			DockContainerBranch current = after.get(container);
+			if (current == null)
+				edits.add(new LayoutEdit(LayoutEdit.Type.REMOVE_CONTAINER, container.getIdentifier(), parent.getIdentifier(), -1));
+			else if (current != parent)
+				edits.add(new LayoutEdit(LayoutEdit.Type.MOVE_CONTAINER, container.getIdentifier(), current.getIdentifier(),
+						current.getChildContainers().indexOf(container)));
+		});
+	}
+
+	private DockContainerBranch newBranch(BranchSnapshot target) {
+		return bento.dockBuilding().branch(target.identifier());
+	}
+
+	private DockContainerLeaf newLeaf(LeafSnapshot target) {
+		DockContainerLeaf leaf = bento.dockBuilding().leaf(target.identifier());
+		leaf.setSide(target.side());
+		return leaf;
+	}
+
+	/**
+	 * @param container
+	 * 		Some live container.
+	 *
+	 * @return {@code true} when the container holds any dockable which is kept in place, rather than closed.
+	 */
+	private boolean holdsRetained(DockContainer container) {
+		if (retained.isEmpty())
+			return false;
+		for (Dockable dockable : container.getDockables())
+			if (retained.contains(dockable))
+				return true;
+		return false;
+	}
+
+	private void suspend(DockContainer container) {
+		pruneStates.putIfAbsent(container, container.doPruneWhenEmpty());
+		container.setPruneWhenEmpty(false);
+		if (container instanceof DockContainerLeaf leaf) {
+			autoSelectStates.putIfAbsent(leaf, leaf.doAutoSelect());
+			leaf.setAutoSelect(false);
+		}
+	}
+
+	/**
+	 * @param roots
+	 * 		Some root containers.
+	 *
+	 * @return Parents of all containers within the roots, in depth-first order.
+	 */
+	private static Map<DockContainer, DockContainerBranch> parentsWithin(Set<DockContainerRootBranch> roots) {
+		Map<DockContainer, DockContainerBranch> parents = new LinkedHashMap<>();
+		DockTraversal.ContainerIterator containers = DockTraversal.depthFirst(roots);
+		while (containers.hasNext()) {
+			DockContainer container = containers.next();
+			DockContainerBranch parent = container.getParentContainer();
+			if (parent != null)
+				parents.put(container, parent);
+		}
+		return parents;
+	}
+
+	/**
+	 * @param container
+	 * 		Some container.
+	 * @param ancestor
+	 * 		Some potential ancestor.
+	 *
+	 * @return {@code true} when the container is within the subtree of the ancestor.
+	 */
+	private static boolean isWithin(DockContainer container, DockContainer ancestor) {
+		DockContainerBranch parent = container.getParentContainer();
+		while (parent != null) {
+			if (parent == ancestor)
+				return true;
+			parent = parent.getParentContainer();
+		}
+		return false;
+	}
+}
@@ -0,0 +1,26 @@
+package software.coley.bentofx.snapshot;
+
+import software.coley.bentofx.dockable.Dockable;
+
+import java.util.List;
+
+/**
+ * Outcome of {@link LayoutApplier applying} a target layout.
+ *
+ * @param edits
+ * 		Changes made to the live layout, in the order they were made.
+ * 		Empty when the live layout already matched the target.
+ * @param orphaned
+ * 		Dockables which were in the live layout, but not the target, and so were closed.
+ * @param retained
+ * 		Dockables which were in the live layout, but not the target, and were kept in place
+ * 		as they are not closable or their closing was cancelled.
+ * @param missingDockables
+ * 		Identifiers of dockables in the target which are not in the live layout, and so could not be placed.
+ * @param unmatchedRoots
+ * 		Identifiers of root containers in the target which are not registered, and so were skipped.
+ *
+ * @author Matt Coley
+ */
+public record LayoutApplyResult(List<LayoutEdit> edits, List<Dockable> orphaned, List<Dockable> retained,
+                                List<String> missingDockables, List<String> unmatchedRoots) {}
@@ -0,0 +1,49 @@
+package software.coley.bentofx.snapshot;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Single change made to the live layout when {@link LayoutApplier applying} a target layout.
+ *
+ * @param type
+ * 		Type of change.
+ * @param subject
+ * 		Identifier of the container or dockable changed.
+ * @param container
+ * 		Identifier of the container the subject was placed in or removed from, if applicable.
+ * @param index
+ * 		Index within the container the subject was placed at, or {@code -1} if not applicable.
+ *
+ * @author Matt Coley
+ */
+public record LayoutEdit(Type type, String subject, @Nullable String container, int index) {
+	/**
+	 * Types of layout edits.
+	 */
+	public enum Type {
+		/** A new container was created and placed into a branch. */
+		CREATE_CONTAINER,
+		/** An existing container was moved into a different branch. */
+		MOVE_CONTAINER,
+		/** An existing container was moved to a different index within its branch. */
+		REORDER_CONTAINER,
+		/** A container not present in the target was removed from its branch. */
+		REMOVE_CONTAINER,
+		/** An existing dockable was moved into a different leaf. */
+		MOVE_DOCKABLE,
+		/** An existing dockable was moved to a different index within its leaf. */
+		REORDER_DOCKABLE,
+		/** A dockable not present in the target was removed from its leaf. */
+		REMOVE_DOCKABLE,
+		/** A dockable was selected within its leaf. */
+		SELECT_DOCKABLE,
+		/** A branch orientation was changed. */
+		ORIENTATION,
+		/** A branch's divider positions were changed. */
+		RESIZE,
+		/** A leaf's header side was changed. */
+		SIDE,
+		/** A leaf's collapsed state was changed. */
+		COLLAPSE
+	}
+}
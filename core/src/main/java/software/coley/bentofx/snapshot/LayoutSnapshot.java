@@ -0,0 +1,71 @@
+package software.coley.bentofx.snapshot;
+
+import org.jspecify.annotations.Nullable;
+import software.coley.bentofx.Bento;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Immutable copy of the layouts of all root containers in a {@link Bento} instance,
+ * which can safely be read from any thread.
+ * <p/>
+ * Snapshots share any unchanged containers with the snapshots taken before them,
+ * so a container snapshot being the same instance across two layout snapshots means it did not change.
+ *
+ * @param roots
+ * 		Snapshots of each registered root container.
+ * @param version
+ * 		Version of the layout, incremented each time the layout changes.
+ *
+ * @author Matt Coley
+ * @see Bento#snapshot()
+ */
+public record LayoutSnapshot(List<ContainerSnapshot> roots, long version) {
+	/**
+	 * Empty layout.
+	 */
+	public static final LayoutSnapshot EMPTY = new LayoutSnapshot(List.of(), 0);
+
+	/**
+	 * @param identifier
+	 * 		Identifier of some container.
+	 *
+	 * @return Container with the given identifier, or {@code null} if no such container exists.
+	 */
+	@Nullable
+	public ContainerSnapshot findContainer(String identifier) {
+		for (ContainerSnapshot root : roots) {
+			ContainerSnapshot found = root.findContainer(identifier);
+			if (found != null)
+				return found;
+		}
+		return null;
+	}
+
+	/**
+	 * @param dockableIdentifier
+	 * 		Identifier of some dockable.
+	 *
+	 * @return Leaf holding the given dockable, or {@code null} if no such leaf exists.
+	 */
+	@Nullable
+	public LeafSnapshot findLeafOf(String dockableIdentifier) {
+		for (ContainerSnapshot root : roots) {
+			LeafSnapshot found = root.findLeafOf(dockableIdentifier);
+			if (found != null)
+				return found;
+		}
+		return null;
+	}
+
+	/**
+	 * @return Identifiers of all dockables across all root containers.
+	 */
+	public List<String> dockableIdentifiers() {
+		List<String> identifiers = new ArrayList<>();
+		for (ContainerSnapshot root : roots)
+			identifiers.addAll(root.dockableIdentifiers());
+		return identifiers;
+	}
+}
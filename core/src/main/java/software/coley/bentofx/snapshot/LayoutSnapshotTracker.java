@@ -0,0 +1,182 @@
+package software.coley.bentofx.snapshot;
+
+import javafx.beans.value.ChangeListener;
+import javafx.collections.ListChangeListener;
+import javafx.scene.control.SplitPane;
+import software.coley.bentofx.Bento;
+import software.coley.bentofx.dockable.Dockable;
+import software.coley.bentofx.event.DockEvent;
+import software.coley.bentofx.layout.DockContainer;
+import software.coley.bentofx.layout.container.DockContainerBranch;
+import software.coley.bentofx.layout.container.DockContainerLeaf;
+import software.coley.bentofx.layout.container.DockContainerRootBranch;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Maintains a {@link LayoutSnapshot} of a {@link Bento} instance's layout.
+ * <p/>
+ * The snapshot is updated on the FX thread as docking events are fired, and as branch orientations,
+ * branch divider positions, leaf sides and leaf collapsed states change. Each update only copies the changed
+ * container and its ancestors, sharing all other container snapshots with the prior layout snapshot.
+ * Reading the {@link #getSnapshot() current snapshot} is a single volatile read, and can be done from any thread.
+ *
+ * @author Matt Coley
+ */
+public class LayoutSnapshotTracker {
+	private final Map<DockContainer, ContainerSnapshot> containerSnapshots = new WeakHashMap<>();
+	private final Bento bento;
+	private volatile LayoutSnapshot snapshot = LayoutSnapshot.EMPTY;
+
+	/**
+	 * @param bento
+	 * 		Bento instance to track.
+	 */
+	public LayoutSnapshotTracker(Bento bento) {
+		this.bento = bento;
+
+		bento.events().addEventListener(this::onEvent);
+	}
+
+	/**
+	 * @return Current snapshot of the layout.
+	 */
+	public LayoutSnapshot getSnapshot() {
+		return snapshot;
+	}
+
+	/**
+	 * @param event
+	 * 		Event to update the snapshot with.
+	 */
+	protected void onEvent(DockEvent event) {
+		switch (event) {
+			case DockEvent.RootContainerAdded e -> publish();
+			case DockEvent.RootContainerRemoved e -> publish();
+			case DockEvent.ContainerChildAdded e -> update(e.container());
+			case DockEvent.ContainerChildRemoved e -> update(e.container());
+			case DockEvent.DockableAdded e -> update(e.container());
+			case DockEvent.DockableRemoved e -> update(e.container());
+			case DockEvent.DockableSelected e -> updateSelection(e.container());
+			default -> {
+				// Other events do not change the layout, or are paired with one of the events above.
+			}
+		}
+	}
+
+	/**
+	 * Re-copies the given container, then path-copies its ancestors.
+	 *
+	 * @param container
+	 * 		Container that has changed.
+	 */
+	protected void update(DockContainer container) {
+		containerSnapshots.put(container, copy(container));
+		propagate(container);
+	}
+
+	private void updateSelection(DockContainerLeaf leaf) {
+		if (containerSnapshots.get(leaf) instanceof LeafSnapshot prior) {
+			Dockable selected = leaf.getSelectedDockable();
+			LeafSnapshot updated = prior.withSelected(selected == null ? null : selected.getIdentifier());
+			if (updated != prior) {
+				containerSnapshots.put(leaf, updated);
+				propagate(leaf);
+			}
+		} else {
+			update(leaf);
+		}
+	}
+
+	private void updateDividers(DockContainerBranch branch) {
+		if (containerSnapshots.get(branch) instanceof BranchSnapshot prior) {
+			BranchSnapshot updated = prior.withDividerPositions(BranchSnapshot.dividerPositionsOf(branch));
+			if (updated != prior) {
+				containerSnapshots.put(branch, updated);
+				propagate(branch);
+			}
+		} else {
+			update(branch);
+		}
+	}
+
+	private void propagate(DockContainer container) {
+		DockContainerBranch parent = container.getParentContainer();
+		while (parent != null) {
+			container = parent;
+
+			// Ancestors may be seen here for the first time, such as when a subtree built outside any root
+			// is attached, so they must be tracked the same as any other copied container.
+			containerSnapshots.put(parent, copy(parent));
+			parent = parent.getParentContainer();
+		}
+
+		// Only containers within a registered root affect the published layout.
+		if (container instanceof DockContainerRootBranch root && bento.getRootContainers().contains(root))
+			publish();
+	}
+
+	private void publish() {
+		List<DockContainerRootBranch> rootContainers = bento.getRootContainers();
+		List<ContainerSnapshot> roots = new ArrayList<>(rootContainers.size());
+		for (DockContainerRootBranch root : rootContainers)
+			roots.add(snapshotOf(root));
+		snapshot = new LayoutSnapshot(List.copyOf(roots), snapshot.version() + 1);
+	}
+
+	private ContainerSnapshot snapshotOf(DockContainer container) {
+		ContainerSnapshot existing = containerSnapshots.get(container);
+		if (existing == null) {
+			existing = copy(container);
+			containerSnapshots.put(container, existing);
+		}
+		return existing;
+	}
+
+	private ContainerSnapshot copy(DockContainer container) {
+		if (!containerSnapshots.containsKey(container))
+			track(container);
+		return switch (container) {
+			case DockContainerBranch branch -> copyBranch(branch);
+			case DockContainerLeaf leaf -> LeafSnapshot.of(leaf);
+		};
+	}
+
+	private BranchSnapshot copyBranch(DockContainerBranch branch) {
+		List<DockContainer> children = branch.getChildContainers();
+		List<ContainerSnapshot> childSnapshots = new ArrayList<>(children.size());
+		for (DockContainer child : children)
+			childSnapshots.add(snapshotOf(child));
+		return new BranchSnapshot(branch.getIdentifier(), branch.getOrientation(),
+				BranchSnapshot.dividerPositionsOf(branch), List.copyOf(childSnapshots));
+	}
+
+	/**
+	 * Registers listeners for container state that is not covered by {@link DockEvent}.
+	 *
+	 * @param container
+	 * 		Container seen for the first time.
+	 */
+	private void track(DockContainer container) {
+		switch (container) {
+			case DockContainerBranch branch -> {
+				ChangeListener<Number> dividerListener = (ob, old, cur) -> updateDividers(branch);
+				branch.orientationProperty().addListener((ob, old, cur) -> update(branch));
+				branch.getDividers().forEach(d -> d.positionProperty().addListener(dividerListener));
+				branch.getDividers().addListener((ListChangeListener<SplitPane.Divider>) c -> {
+					while (c.next())
+						for (SplitPane.Divider divider : c.getAddedSubList())
+							divider.positionProperty().addListener(dividerListener);
+					updateDividers(branch);
+				});
+			}
+			case DockContainerLeaf leaf -> {
+				leaf.sideProperty().addListener((ob, old, cur) -> update(leaf));
+				leaf.collapsedProperty().addListener((ob, old, cur) -> update(leaf));
+			}
+		}
+	}
+}
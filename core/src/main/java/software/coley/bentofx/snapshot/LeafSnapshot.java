@@ -0,0 +1,70 @@
+package software.coley.bentofx.snapshot;
+
+import javafx.geometry.Side;
+import org.jspecify.annotations.Nullable;
+import software.coley.bentofx.dockable.Dockable;
+import software.coley.bentofx.layout.container.DockContainerLeaf;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Immutable copy of a {@link DockContainerLeaf}.
+ *
+ * @param identifier
+ * 		Identifier of the leaf.
+ * @param side
+ * 		Side of the leaf headers are displayed on, or {@code null} when headers are not displayed.
+ * @param collapsed
+ *        {@code true} when the leaf is collapsed.
+ * @param dockables
+ * 		Identifiers of the dockables in the leaf, in display order.
+ * @param selected
+ * 		Identifier of the selected dockable, or {@code null} when nothing is selected.
+ *
+ * @author Matt Coley
+ */
+public record LeafSnapshot(String identifier, @Nullable Side side, boolean collapsed,
+                           List<String> dockables, @Nullable String selected) implements ContainerSnapshot {
+	/**
+	 * @param leaf
+	 * 		Leaf to copy. Must be read on the FX thread.
+	 *
+	 * @return Snapshot of the leaf.
+	 */
+	public static LeafSnapshot of(DockContainerLeaf leaf) {
+		Dockable selected = leaf.getSelectedDockable();
+		return new LeafSnapshot(leaf.getIdentifier(), leaf.getSide(), leaf.collapsedProperty().get(),
+				leaf.getDockables().stream().map(Dockable::getIdentifier).toList(),
+				selected == null ? null : selected.getIdentifier());
+	}
+
+	/**
+	 * @param selected
+	 * 		Identifier of the selected dockable, or {@code null} when nothing is selected.
+	 *
+	 * @return Copy of this leaf with the given selection, sharing the dockable list of this leaf.
+	 */
+	public LeafSnapshot withSelected(@Nullable String selected) {
+		if (Objects.equals(this.selected, selected))
+			return this;
+		return new LeafSnapshot(identifier, side, collapsed, dockables, selected);
+	}
+
+	@Override
+	public List<String> dockableIdentifiers() {
+		return dockables;
+	}
+
+	@Nullable
+	@Override
+	public ContainerSnapshot findContainer(String identifier) {
+		return this.identifier.equals(identifier) ? this : null;
+	}
+
+	@Nullable
+	@Override
+	public LeafSnapshot findLeafOf(String dockableIdentifier) {
+		return dockables.contains(dockableIdentifier) ? this : null;
+	}
+}
@@ -0,0 +1,236 @@
+package software.coley.bentofx.snapshot;
+
+import javafx.geometry.Orientation;
+import javafx.geometry.Side;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.testfx.api.FxToolkit;
+import software.coley.bentofx.Bento;
+import software.coley.bentofx.dockable.Dockable;
+import software.coley.bentofx.event.DockEvent;
+import software.coley.bentofx.layout.DockContainer;
+import software.coley.bentofx.layout.container.DockContainerBranch;
+import software.coley.bentofx.layout.container.DockContainerLeaf;
+import software.coley.bentofx.layout.container.DockContainerRootBranch;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link LayoutApplier}.
+ *
+ * @author Matt Coley
+ */
+class LayoutApplierTest {
+	@BeforeAll
+	static void setup() throws TimeoutException {
+		FxToolkit.registerPrimaryStage();
+	}
+
+	@Test
+	void reorderWithinBranch() throws TimeoutException {
+		onFx(() -> {
+			Bento bento = new Bento();
+			DockContainerLeaf a = leaf(bento, "a", "d1");
+			DockContainerLeaf b = leaf(bento, "b", "d2");
+			DockContainerLeaf c = leaf(bento, "c", "d3");
+			DockContainerRootBranch root = root(bento, "root", a, b, c);
+
+			LayoutApplyResult result = bento.applyLayout(layout(
+					branchOf("root", leafOf("c", "d3"), leafOf("a", "d1"), leafOf("b", "d2"))));
+
+			assertThat(root.getChildContainers()).containsExactly(c, a, b);
+			assertThat(result.edits()).containsExactly(
+					new LayoutEdit(LayoutEdit.Type.REORDER_CONTAINER, "c", "root", 0));
+		});
+	}
+
+	@Test
+	void moveExtraIntoLaterBranch() throws TimeoutException {
+		onFx(() -> {
+			Bento bento = new Bento();
+			DockContainerLeaf a = leaf(bento, "a", "d1");
+			DockContainerLeaf b = leaf(bento, "b", "d2");
+			DockContainerLeaf c = leaf(bento, "c", "d3");
+			DockContainerBranch x = branch(bento, "x", a, b);
+			DockContainerBranch y = branch(bento, "y", c);
+			root(bento, "root", x, y);
+
+			LayoutApplyResult result = bento.applyLayout(layout(
+					branchOf("root",
+							branchOf("x", leafOf("a", "d1")),
+							branchOf("y", leafOf("c", "d3"), leafOf("b", "d2")))));
+
+			// The leaf is moved once, rather than being removed from its prior branch and then moved.
+			assertThat(x.getChildContainers()).containsExactly(a);
+			assertThat(y.getChildContainers()).containsExactly(c, b);
+			assertThat(b.getDockables()).extracting(Dockable::getIdentifier).containsExactly("d2");
+			assertThat(result.edits()).containsExactly(
+					new LayoutEdit(LayoutEdit.Type.MOVE_CONTAINER, "b", "y", 1));
+		});
+	}
+
+	@Test
+	void invertParentAndChild() throws TimeoutException {
+		onFx(() -> {
+			Bento bento = new Bento();
+			DockContainerLeaf l1 = leaf(bento, "l1", "d1");
+			DockContainerLeaf l2 = leaf(bento, "l2", "d2");
+			DockContainerBranch q = branch(bento, "q", l1);
+			DockContainerBranch p = branch(bento, "p", q, l2);
+			DockContainerRootBranch root = root(bento, "root", p);
+
+			LayoutApplyResult result = bento.applyLayout(layout(
+					branchOf("root",
+							branchOf("q",
+									branchOf("p", leafOf("l2", "d2")),
+									leafOf("l1", "d1")))));
+
+			assertThat(root.getChildContainers()).containsExactly(q);
+			assertThat(q.getChildContainers()).containsExactly(p, l1);
+			assertThat(p.getChildContainers()).containsExactly(l2);
+			assertThat(result.edits()).containsExactly(
+					new LayoutEdit(LayoutEdit.Type.MOVE_CONTAINER, "p", "q", 0),
+					new LayoutEdit(LayoutEdit.Type.MOVE_CONTAINER, "q", "root", 0));
+		});
+	}
+
+	@Test
+	void unmatchedRootLeavesOtherRootsUntouched() throws TimeoutException {
+		onFx(() -> {
+			Bento bento = new Bento();
+			DockContainerLeaf a = leaf(bento, "a", "d1");
+			DockContainerLeaf b = leaf(bento, "b", "d2");
+			root(bento, "r1", a);
+			DockContainerRootBranch r2 = root(bento, "r2", b);
+
+			LayoutApplyResult result = bento.applyLayout(layout(
+					branchOf("r1", leafOf("a", "d1", "d2")),
+					branchOf("missing", leafOf("c"))));
+
+			// Dockables in roots the target does not list are not taken from them.
+			assertThat(result.unmatchedRoots()).containsExactly("missing");
+			assertThat(result.missingDockables()).containsExactly("d2");
+			assertThat(result.edits()).isEmpty();
+			assertThat(r2.getChildContainers()).containsExactly(b);
+			assertThat(b.getDockables()).extracting(Dockable::getIdentifier).containsExactly("d2");
+		});
+	}
+
+	@Test
+	void emptiedContainersArePruned() throws TimeoutException {
+		onFx(() -> {
+			Bento bento = new Bento();
+			DockContainerLeaf a = leaf(bento, "a", "d1");
+			DockContainerLeaf b = leaf(bento, "b", "d2");
+			DockContainerRootBranch root = root(bento, "root", a, b);
+
+			LayoutApplyResult result = bento.applyLayout(layout(
+					branchOf("root", leafOf("a", "d1", "d2"), leafOf("b"))));
+
+			assertThat(root.getChildContainers()).containsExactly(a);
+			assertThat(a.getDockables()).extracting(Dockable::getIdentifier).containsExactly("d1", "d2");
+			assertThat(result.edits()).containsExactly(
+					new LayoutEdit(LayoutEdit.Type.MOVE_DOCKABLE, "d2", "a", 1),
+					new LayoutEdit(LayoutEdit.Type.REMOVE_CONTAINER, "b", "root", -1));
+		});
+	}
+
+	@Test
+	void unlistedDockablesAreClosedUnlessRetained() throws TimeoutException {
+		onFx(() -> {
+			Bento bento = new Bento();
+			DockContainerLeaf a = leaf(bento, "a", "d1");
+			DockContainerLeaf b = leaf(bento, "b", "d2", "d3", "d4");
+			DockContainerRootBranch root = root(bento, "root", a, b);
+			Dockable d2 = b.getDockables().get(0);
+			Dockable d3 = b.getDockables().get(1);
+			Dockable d4 = b.getDockables().get(2);
+			d2.setClosable(false);
+			bento.events().addEventListener(event -> {
+				if (event instanceof DockEvent.DockableClosing closing && closing.dockable() == d3)
+					closing.cancel();
+			});
+
+			LayoutApplyResult result = bento.applyLayout(layout(branchOf("root", leafOf("a", "d1"))));
+
+			// The leaf holding the dockables which could not be closed is kept.
+			assertThat(result.orphaned()).containsExactly(d4);
+			assertThat(result.retained()).containsExactly(d2, d3);
+			assertThat(root.getChildContainers()).containsExactly(a, b);
+			assertThat(b.getDockables()).containsExactly(d2, d3);
+			assertThat(result.edits()).containsExactly(
+					new LayoutEdit(LayoutEdit.Type.REMOVE_DOCKABLE, "d4", "b", -1));
+		});
+	}
+
+	@Test
+	void changeEventsPrecedeLayoutApplied() throws TimeoutException {
+		onFx(() -> {
+			Bento bento = new Bento();
+			DockContainerLeaf a = leaf(bento, "a", "d1", "d2");
+			DockContainerLeaf b = leaf(bento, "b", "d3");
+			DockContainerRootBranch root = root(bento, "root", a, b);
+			Dockable d2 = a.getDockables().get(1);
+			List<DockEvent> events = new ArrayList<>();
+			bento.events().addEventListener(events::add);
+
+			bento.applyLayout(layout(
+					branchOf("root", leafOf("b", "d3", "d2"), leafOf("a", "d1"))));
+
+			// Each change is delivered once the layout is applied, in order, and then marked as complete.
+			assertThat(events).containsSubsequence(
+					new DockEvent.DockableRemoved(d2, a),
+					new DockEvent.DockableAdded(b, d2));
+			assertThat(events).filteredOn(DockEvent.LayoutApplied.class::isInstance).hasSize(1);
+			assertThat(events).last().isEqualTo(new DockEvent.LayoutApplied(List.of(root)));
+
+			// The published snapshot follows the delivered events.
+			BranchSnapshot snapshot = (BranchSnapshot) bento.snapshot().roots().getFirst();
+			assertThat(snapshot.children()).extracting(ContainerSnapshot::identifier).containsExactly("b", "a");
+			assertThat(snapshot.children().getFirst()).isEqualTo(leafOf("b", "d3", "d2"));
+		});
+	}
+
+	private static void onFx(Runnable action) throws TimeoutException {
+		FxToolkit.setupFixture(action);
+	}
+
+	private static LayoutSnapshot layout(ContainerSnapshot... roots) {
+		return new LayoutSnapshot(List.of(roots), 0);
+	}
+
+	private static BranchSnapshot branchOf(String identifier, ContainerSnapshot... children) {
+		return new BranchSnapshot(identifier, Orientation.HORIZONTAL, List.of(), List.of(children));
+	}
+
+	private static LeafSnapshot leafOf(String identifier, String... dockables) {
+		return new LeafSnapshot(identifier, Side.TOP, false, List.of(dockables), dockables.length == 0 ? null : dockables[0]);
+	}
+
+	private static DockContainerRootBranch root(Bento bento, String identifier, DockContainer... children) {
+		DockContainerRootBranch root = branch(bento.dockBuilding().root(identifier), children);
+		bento.registerRoot(root);
+		return root;
+	}
+
+	private static DockContainerBranch branch(Bento bento, String identifier, DockContainer... children) {
+		return branch(bento.dockBuilding().branch(identifier), children);
+	}
+
+	private static <B extends DockContainerBranch> B branch(B branch, DockContainer... children) {
+		for (DockContainer child : children)
+			branch.addContainer(child);
+		return branch;
+	}
+
+	private static DockContainerLeaf leaf(Bento bento, String identifier, String... dockables) {
+		DockContainerLeaf leaf = bento.dockBuilding().leaf(identifier);
+		for (String dockable : dockables)
+			leaf.addDockable(bento.dockBuilding().dockable(dockable));
+		return leaf;
+	}
+}